@@ -0,0 +1,7 @@
+package com.saksonik.ConsoleMaze.generation;
+
+@FunctionalInterface
+public interface RowSink {
+    // Bit j of walls is set when column j of the row is a wall. The array is reused for the next row.
+    void accept(long row, long[] walls);
+}
@@ -0,0 +1,18 @@
+package com.saksonik.ConsoleMaze.generation;
+
+public final class SeededHash {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private SeededHash() {
+    }
+
+    public static long hash(long seed, long index) {
+        return mix(seed + index * GOLDEN_GAMMA);
+    }
+
+    public static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
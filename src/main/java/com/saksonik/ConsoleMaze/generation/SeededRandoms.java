@@ -0,0 +1,17 @@
+package com.saksonik.ConsoleMaze.generation;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+public final class SeededRandoms {
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+    private static final RandomGeneratorFactory<RandomGenerator.SplittableGenerator> FACTORY =
+            RandomGeneratorFactory.of(DEFAULT_ALGORITHM);
+
+    private SeededRandoms() {
+    }
+
+    public static RandomGenerator.SplittableGenerator create(long seed) {
+        return FACTORY.create(seed);
+    }
+}
@@ -0,0 +1,20 @@
+package com.saksonik.ConsoleMaze.generation;
+
+import com.saksonik.ConsoleMaze.model.BitStorage;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+
+public interface StreamingGenerator extends Generator {
+    void generate(long height, int width, RowSink sink);
+
+    default LargeMaze generateLarge(long height, int width) {
+        LargeMaze maze = new LargeMaze(height, width);
+        generate(height, width, maze::putRow);
+        return maze;
+    }
+
+    default LargeMaze generateLarge(long height, int width, BitStorage walls) {
+        LargeMaze maze = new LargeMaze(height, width, walls);
+        generate(height, width, maze::putRow);
+        return maze;
+    }
+}
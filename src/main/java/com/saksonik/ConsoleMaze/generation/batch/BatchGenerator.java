@@ -0,0 +1,110 @@
+package com.saksonik.ConsoleMaze.generation.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+public class BatchGenerator {
+    // Null when every batch gets its own virtual-thread executor.
+    private final Executor executor;
+
+    public BatchGenerator() {
+        this.executor = null;
+    }
+
+    public BatchGenerator(Executor executor) {
+        this.executor = executor;
+    }
+
+    // Every spec gets its own generator seeded from the spec, so no generator state is shared between tasks and
+    // each maze is the same as a sequential GenerationAlgorithm.generate call with that seed.
+    //
+    // Mazes come back in completion order. Closing the stream, or a failed task surfacing from it, cancels the
+    // tasks that have not finished yet, so a consumer that stops early should close it (try-with-resources).
+    public Stream<GeneratedMaze> generate(List<MazeSpec> specs) {
+        Batch batch = new Batch(executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null, specs.size());
+
+        try {
+            for (MazeSpec spec : specs) {
+                batch.submit(() -> new GeneratedMaze(
+                        spec,
+                        spec.algorithm().generate(spec.height(), spec.width(), spec.seed())
+                ));
+            }
+        } catch (RuntimeException e) {
+            batch.close();
+            throw e;
+        }
+
+        if (specs.isEmpty()) {
+            batch.close();
+        }
+        return Stream.generate(batch::next).limit(specs.size()).onClose(batch::close);
+    }
+
+    // The tasks handed to the executor are the futures themselves, each queueing itself once it is done, so
+    // cancelling a future also turns its queued task into a no-op.
+    private final class Batch {
+        private final ExecutorService ownExecutor;
+        private final BlockingQueue<Future<GeneratedMaze>> completed = new LinkedBlockingQueue<>();
+        private final List<Future<GeneratedMaze>> futures;
+        private int remaining;
+
+        Batch(ExecutorService ownExecutor, int size) {
+            this.ownExecutor = ownExecutor;
+            this.futures = new ArrayList<>(size);
+            this.remaining = size;
+        }
+
+        void submit(Callable<GeneratedMaze> callable) {
+            FutureTask<GeneratedMaze> task = new FutureTask<>(callable) {
+                @Override
+                protected void done() {
+                    completed.add(this);
+                }
+            };
+            futures.add(task);
+            (ownExecutor == null ? executor : ownExecutor).execute(task);
+        }
+
+        GeneratedMaze next() {
+            try {
+                GeneratedMaze maze = completed.take().get();
+                if (--remaining == 0) {
+                    close();
+                }
+                return maze;
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new CompletionException(e.getCause());
+            }
+        }
+
+        // Cancelling a finished task does nothing, so this is safe to call more than once.
+        void close() {
+            for (Future<GeneratedMaze> future : futures) {
+                future.cancel(true);
+            }
+            if (ownExecutor != null) {
+                ownExecutor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.saksonik.ConsoleMaze.generation.batch;
+
+import com.saksonik.ConsoleMaze.model.Maze;
+
+public record GeneratedMaze(MazeSpec spec, Maze maze) {
+}
@@ -0,0 +1,6 @@
+package com.saksonik.ConsoleMaze.generation.batch;
+
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+
+public record MazeSpec(ApplicationProperties.GenerationAlgorithm algorithm, int height, int width, long seed) {
+}
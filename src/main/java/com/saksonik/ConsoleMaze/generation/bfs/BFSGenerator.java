@@ -1,23 +1,15 @@
 package com.saksonik.ConsoleMaze.generation.bfs;
 
 import com.saksonik.ConsoleMaze.generation.Generator;
-import com.saksonik.ConsoleMaze.model.AlternatingCell;
-import com.saksonik.ConsoleMaze.model.Edge;
+import com.saksonik.ConsoleMaze.model.Lattice;
 import com.saksonik.ConsoleMaze.model.Maze;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Queue;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class BFSGenerator implements Generator {
-    private final Random random;
-    private final Queue<AlternatingCell> queue;
+    private final RandomGenerator random;
 
-    public BFSGenerator(Random random) {
+    public BFSGenerator(RandomGenerator random) {
         this.random = random;
-        queue = new ArrayDeque<>();
     }
 
     @Override
@@ -27,35 +19,35 @@ public class BFSGenerator implements Generator {
         int bfsHeight = (height - 1) / 2;
         int bfsWidth = (width - 1) / 2;
 
-        List<AlternatingCell> alternatingCells = AlternatingCell.initAlternatingCells(bfsWidth, bfsHeight);
-        AlternatingCell.shuffleNeighborsOfAlternatingCells(alternatingCells, random);
+        Lattice lattice = new Lattice(bfsWidth, bfsHeight);
+        lattice.shuffleNeighbors(random);
 
-        maze.putSpanningTree(buildRandomSpanningTree(alternatingCells.getFirst()), bfsWidth);
+        buildRandomSpanningTree(lattice, maze);
         return maze;
     }
 
-    private List<Edge> buildRandomSpanningTree(AlternatingCell firstCell) {
-        List<Edge> edges = new ArrayList<>();
-        AlternatingCell cur = firstCell;
+    private void buildRandomSpanningTree(Lattice lattice, Maze maze) {
+        int[] queue = new int[lattice.size()];
+        int head = 0;
+        int tail = 0;
+        int cur = 0;
 
-        queue.add(cur);
-        cur.makeVisited();
+        queue[tail++] = cur;
+        lattice.makeVisited(cur);
 
-        while (!queue.isEmpty()) {
-            Optional<AlternatingCell> neighborOpt = cur.getFirstUnvisitedNeighbor();
+        while (head < tail) {
+            int neighbor = lattice.getFirstUnvisitedNeighbor(cur);
 
-            if (neighborOpt.isPresent()) {
-                AlternatingCell neighbor = neighborOpt.get();
-                neighbor.makeVisited();
+            if (neighbor != Lattice.NO_NEIGHBOR) {
+                lattice.makeVisited(neighbor);
 
-                edges.add(new Edge(cur.getCellId(), neighbor.getCellId()));
+                maze.carve(cur, neighbor);
 
                 cur = neighbor;
-                queue.add(cur);
+                queue[tail++] = cur;
             } else {
-                cur = queue.poll();
+                cur = queue[head++];
             }
         }
-        return edges;
     }
 }
@@ -0,0 +1,52 @@
+package com.saksonik.ConsoleMaze.generation.binaryTree;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class BinaryTreeGenerator implements Generator {
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    public BinaryTreeGenerator(RandomGenerator random) {
+        this(random, ForkJoinPool.commonPool());
+    }
+
+    public BinaryTreeGenerator(RandomGenerator random, ForkJoinPool pool) {
+        this.random = random;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int treeHeight = (height - 1) / 2;
+        int treeWidth = (width - 1) / 2;
+        long seed = random.nextLong();
+
+        // Logical row r only writes grid rows 2r and 2r + 1, and maze rows never share a word, so rows can be
+        // carved concurrently.
+        pool.submit(() -> IntStream.range(0, treeHeight)
+                .parallel()
+                .forEach(row -> carveRow(maze, row, treeWidth, seed))
+        ).join();
+        return maze;
+    }
+
+    private void carveRow(Maze maze, int row, int width, long seed) {
+        for (int column = 0; column < width; column++) {
+            int cell = row * width + column;
+
+            if (row == 0 && column == 0) {
+                continue;
+            }
+
+            boolean north = row > 0 && (column == 0 || (SeededHash.hash(seed, cell) & 1) == 0);
+            maze.carve(cell, north ? cell - width : cell - 1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.saksonik.ConsoleMaze.generation.boruvka;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import com.saksonik.ConsoleMaze.generation.kruskal.ConcurrentDisjointSet;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class BoruvkaGenerator implements Generator {
+    private static final int MAX_CELLS = 1 << 30;
+    private static final long NO_EDGE = Long.MAX_VALUE;
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    public BoruvkaGenerator(RandomGenerator random) {
+        this(random, ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaGenerator(RandomGenerator random, ForkJoinPool pool) {
+        this.random = random;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int boruvkaHeight = (height - 1) / 2;
+        int boruvkaWidth = (width - 1) / 2;
+        if ((long) boruvkaHeight * boruvkaWidth > MAX_CELLS) {
+            throw new IllegalArgumentException("Boruvka supports at most " + MAX_CELLS + " cells");
+        }
+
+        long seed = random.nextLong();
+        pool.submit(() -> new Forest(boruvkaHeight, boruvkaWidth, seed).buildMinimumSpanningTree(maze)).join();
+        return maze;
+    }
+
+    // Wall weights are hashed from the seed and the wall slot (cell << 1 | vertical), and the slot breaks ties,
+    // so every wall has a distinct key, the minimum spanning tree is unique and the maze does not depend on
+    // how the rounds are scheduled.
+    private static final class Forest {
+        private final int height;
+        private final int width;
+        private final long seed;
+        private final int[] components;
+        private final AtomicLongArray cheapest;
+        private final ConcurrentDisjointSet disjointSet;
+
+        Forest(int height, int width, long seed) {
+            this.height = height;
+            this.width = width;
+            this.seed = seed;
+
+            int cellCount = height * width;
+            components = new int[cellCount];
+            cheapest = new AtomicLongArray(cellCount);
+            disjointSet = new ConcurrentDisjointSet(cellCount);
+        }
+
+        void buildMinimumSpanningTree(Maze maze) {
+            int[] roots = IntStream.range(0, components.length).toArray();
+
+            while (roots.length > 1) {
+                IntStream.range(0, components.length).parallel().forEach(cell -> {
+                    components[cell] = disjointSet.find(cell);
+                    cheapest.set(cell, NO_EDGE);
+                });
+
+                IntStream.range(0, components.length).parallel().forEach(this::offerCheapestEdges);
+
+                for (int root : roots) {
+                    long key = cheapest.get(root);
+                    if (key != NO_EDGE) {
+                        merge((int) key, maze);
+                    }
+                }
+
+                roots = IntStream.of(roots).parallel().filter(root -> disjointSet.find(root) == root).toArray();
+            }
+        }
+
+        private void offerCheapestEdges(int cell) {
+            int row = cell / width;
+            int column = cell % width;
+
+            if (column > 0) {
+                offer(cell, cell - 1, cell << 1);
+            }
+            if (row > 0) {
+                offer(cell, cell - width, cell << 1 | 1);
+            }
+            if (column < width - 1) {
+                offer(cell, cell + 1, (cell + 1) << 1);
+            }
+            if (row < height - 1) {
+                offer(cell, cell + width, (cell + width) << 1 | 1);
+            }
+        }
+
+        private void offer(int cell, int neighbor, int slot) {
+            int component = components[cell];
+            if (component == components[neighbor]) {
+                return;
+            }
+
+            long key = weight(slot) << Integer.SIZE | slot;
+            long current = cheapest.get(component);
+
+            while (key < current && !cheapest.compareAndSet(component, current, key)) {
+                current = cheapest.get(component);
+            }
+        }
+
+        private long weight(int slot) {
+            return SeededHash.hash(seed, slot) >>> 33;
+        }
+
+        private void merge(int slot, Maze maze) {
+            int firstCell = slot >>> 1;
+            int secondCell = (slot & 1) == 0 ? firstCell - 1 : firstCell - width;
+
+            if (disjointSet.union(firstCell, secondCell)) {
+                maze.carve(firstCell, secondCell);
+            }
+        }
+    }
+}
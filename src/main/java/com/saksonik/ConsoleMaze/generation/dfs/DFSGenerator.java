@@ -1,23 +1,15 @@
 package com.saksonik.ConsoleMaze.generation.dfs;
 
 import com.saksonik.ConsoleMaze.generation.Generator;
-import com.saksonik.ConsoleMaze.model.AlternatingCell;
-import com.saksonik.ConsoleMaze.model.Edge;
+import com.saksonik.ConsoleMaze.model.Lattice;
 import com.saksonik.ConsoleMaze.model.Maze;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-import java.util.Optional;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class DFSGenerator implements Generator {
-    private final Random random;
-    private final Deque<AlternatingCell> stack;
+    private final RandomGenerator random;
 
-    public DFSGenerator(Random random) {
+    public DFSGenerator(RandomGenerator random) {
         this.random = random;
-        stack = new ArrayDeque<>();
     }
 
     @Override
@@ -27,35 +19,34 @@ public class DFSGenerator implements Generator {
         int dfsHeight = (height - 1) / 2;
         int dfsWidth = (width - 1) / 2;
 
-        List<AlternatingCell> alternatingCells = AlternatingCell.initAlternatingCells(dfsWidth, dfsHeight);
-        AlternatingCell.shuffleNeighborsOfAlternatingCells(alternatingCells, random);
+        Lattice lattice = new Lattice(dfsWidth, dfsHeight);
+        lattice.shuffleNeighbors(random);
 
-        maze.putSpanningTree(buildRandomSpanningTree(alternatingCells.getFirst()), dfsWidth);
+        buildRandomSpanningTree(lattice, maze);
         return maze;
     }
 
-    private List<Edge> buildRandomSpanningTree(AlternatingCell firstCell) {
-        List<Edge> edges = new ArrayList<>();
-        AlternatingCell cur = firstCell;
+    private void buildRandomSpanningTree(Lattice lattice, Maze maze) {
+        int[] stack = new int[lattice.size()];
+        int stackSize = 0;
+        int cur = 0;
 
-        stack.add(cur);
-        cur.makeVisited();
+        stack[stackSize++] = cur;
+        lattice.makeVisited(cur);
 
-        while (!stack.isEmpty()) {
-            Optional<AlternatingCell> neighborOpt = cur.getFirstUnvisitedNeighbor();
+        while (stackSize > 0) {
+            int neighbor = lattice.getFirstUnvisitedNeighbor(cur);
 
-            if (neighborOpt.isPresent()) {
-                AlternatingCell neighbor = neighborOpt.get();
-                neighbor.makeVisited();
+            if (neighbor != Lattice.NO_NEIGHBOR) {
+                lattice.makeVisited(neighbor);
 
-                edges.add(new Edge(cur.getCellId(), neighbor.getCellId()));
+                maze.carve(cur, neighbor);
 
                 cur = neighbor;
-                stack.push(cur);
+                stack[stackSize++] = cur;
             } else {
-                cur = stack.poll();
+                cur = stack[--stackSize];
             }
         }
-        return edges;
     }
 }
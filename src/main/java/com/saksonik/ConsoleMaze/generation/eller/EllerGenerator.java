@@ -0,0 +1,180 @@
+package com.saksonik.ConsoleMaze.generation.eller;
+
+import com.saksonik.ConsoleMaze.generation.RowSink;
+import com.saksonik.ConsoleMaze.generation.StreamingGenerator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+public class EllerGenerator implements StreamingGenerator {
+    private final RandomGenerator random;
+
+    public EllerGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+        generate(height, width, (row, walls) -> maze.putRow((int) row, walls));
+        return maze;
+    }
+
+    @Override
+    public void generate(long height, int width, RowSink sink) {
+        if (height < ApplicationProperties.SIZE_LOWER_BOUND || width < ApplicationProperties.SIZE_LOWER_BOUND) {
+            throw new IllegalArgumentException(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+        }
+        new RowEmitter(height, width, sink).emit();
+    }
+
+    // Holds one logical row of set membership as a union-find over its columns, plus the two grid rows
+    // being built, so memory stays O(width) however many rows are emitted.
+    private final class RowEmitter {
+        private static final int NONE = -1;
+        private final long height;
+        private final int width;
+        private final int ellerHeight;
+        private final int ellerWidth;
+        private final int exitColumn;
+        private final RowSink sink;
+        private final long[] cellRow;
+        private final long[] borderRow;
+        private final long fullRowLastWord;
+        private int[] parent;
+        private int[] nextParent;
+        private final int[] lastColumn;
+        private final int[] representative;
+        private final boolean[] hasDown;
+
+        RowEmitter(long height, int width, RowSink sink) {
+            this.height = height;
+            this.width = width;
+            this.sink = sink;
+
+            long logicalHeight = (height - 1) / 2;
+            if (logicalHeight > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Eller supports at most " + Integer.MAX_VALUE + " logical rows");
+            }
+            ellerHeight = (int) logicalHeight;
+            ellerWidth = (width - 1) / 2;
+            exitColumn = width - ApplicationProperties.SIZE_LOWER_BOUND + width % 2;
+
+            int words = (width + Long.SIZE - 1) >>> 6;
+            cellRow = new long[words];
+            borderRow = new long[words];
+            fullRowLastWord = -1L >>> (words * Long.SIZE - width);
+
+            parent = new int[ellerWidth];
+            nextParent = new int[ellerWidth];
+            lastColumn = new int[ellerWidth];
+            representative = new int[ellerWidth];
+            hasDown = new boolean[ellerWidth];
+        }
+
+        void emit() {
+            fillWalls(borderRow);
+            open(borderRow, 1);
+            sink.accept(0, borderRow);
+
+            for (int i = 0; i < ellerWidth; i++) {
+                parent[i] = i;
+            }
+
+            for (int row = 0; row < ellerHeight; row++) {
+                boolean lastRow = row == ellerHeight - 1;
+
+                joinHorizontally(lastRow);
+                sink.accept(2L * row + 1, cellRow);
+
+                fillWalls(borderRow);
+                if (lastRow) {
+                    openExit(2L * row + 2);
+                } else {
+                    joinVertically();
+                }
+                sink.accept(2L * row + 2, borderRow);
+            }
+
+            if (height % 2 == 0) {
+                fillWalls(borderRow);
+                open(borderRow, exitColumn);
+                sink.accept(height - 1, borderRow);
+            }
+        }
+
+        private void joinHorizontally(boolean lastRow) {
+            fillWalls(cellRow);
+
+            for (int column = 0; column < ellerWidth; column++) {
+                open(cellRow, 2 * column + 1);
+
+                if (column + 1 < ellerWidth) {
+                    int root = find(column);
+                    int neighborRoot = find(column + 1);
+
+                    if (root != neighborRoot && (lastRow || random.nextBoolean())) {
+                        parent[neighborRoot] = root;
+                        open(cellRow, 2 * column + 2);
+                    }
+                }
+            }
+        }
+
+        private void joinVertically() {
+            for (int column = 0; column < ellerWidth; column++) {
+                int root = find(column);
+                lastColumn[root] = column;
+                hasDown[root] = false;
+                representative[root] = NONE;
+            }
+
+            for (int column = 0; column < ellerWidth; column++) {
+                int root = find(column);
+                boolean down = random.nextBoolean() || (lastColumn[root] == column && !hasDown[root]);
+
+                if (down) {
+                    hasDown[root] = true;
+                    open(borderRow, 2 * column + 1);
+
+                    if (representative[root] == NONE) {
+                        representative[root] = column;
+                    }
+                    nextParent[column] = representative[root];
+                } else {
+                    nextParent[column] = column;
+                }
+            }
+
+            int[] tmp = parent;
+            parent = nextParent;
+            nextParent = tmp;
+        }
+
+        private int find(int column) {
+            int cur = column;
+
+            while (parent[cur] != cur) {
+                parent[cur] = parent[parent[cur]];
+                cur = parent[cur];
+            }
+            return cur;
+        }
+
+        private void openExit(long row) {
+            if (row == height - 1 || row == height - 2) {
+                open(borderRow, exitColumn);
+            }
+        }
+
+        private void fillWalls(long[] words) {
+            Arrays.fill(words, -1L);
+            words[words.length - 1] = fullRowLastWord;
+        }
+
+        private void open(long[] words, int column) {
+            words[column >>> 6] &= ~(1L << column);
+        }
+    }
+}
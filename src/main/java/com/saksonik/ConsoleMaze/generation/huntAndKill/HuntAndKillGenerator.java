@@ -0,0 +1,78 @@
+package com.saksonik.ConsoleMaze.generation.huntAndKill;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+public class HuntAndKillGenerator implements Generator {
+    private final RandomGenerator random;
+
+    public HuntAndKillGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int huntHeight = (height - 1) / 2;
+        int huntWidth = (width - 1) / 2;
+
+        buildRandomSpanningTree(maze, huntHeight, huntWidth);
+        return maze;
+    }
+
+    // The walk starts at cell 0, so every cell before the first unvisited one is visited. That cell therefore always
+    // has a visited neighbour to the left or above, and the hunt never has to look behind its cursor.
+    private void buildRandomSpanningTree(Maze maze, int height, int width) {
+        int cellCount = Math.multiplyExact(height, width);
+        BitSet visited = new BitSet(cellCount);
+        int[] neighbors = new int[4];
+        int huntCursor = 0;
+        int cur = 0;
+
+        visited.set(cur);
+        while (true) {
+            int count = collectNeighbors(cur, height, width, visited, false, neighbors);
+
+            if (count > 0) {
+                int next = neighbors[random.nextInt(count)];
+                maze.carve(cur, next);
+                visited.set(next);
+                cur = next;
+                continue;
+            }
+
+            huntCursor = visited.nextClearBit(huntCursor);
+            if (huntCursor >= cellCount) {
+                return;
+            }
+
+            cur = huntCursor;
+            count = collectNeighbors(cur, height, width, visited, true, neighbors);
+            maze.carve(cur, neighbors[random.nextInt(count)]);
+            visited.set(cur);
+        }
+    }
+
+    private int collectNeighbors(int cell, int height, int width, BitSet visited, boolean wanted, int[] neighbors) {
+        int row = cell / width;
+        int column = cell - row * width;
+        int count = 0;
+
+        if (row > 0 && visited.get(cell - width) == wanted) {
+            neighbors[count++] = cell - width;
+        }
+        if (column > 0 && visited.get(cell - 1) == wanted) {
+            neighbors[count++] = cell - 1;
+        }
+        if (row < height - 1 && visited.get(cell + width) == wanted) {
+            neighbors[count++] = cell + width;
+        }
+        if (column < width - 1 && visited.get(cell + 1) == wanted) {
+            neighbors[count++] = cell + 1;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,140 @@
+package com.saksonik.ConsoleMaze.generation.infinite;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import com.saksonik.ConsoleMaze.generation.SeededRandoms;
+import com.saksonik.ConsoleMaze.generation.dfs.DFSGenerator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+// A perfect maze over the whole non-negative quadrant. Grid coordinates follow Maze: cell (y, x) sits at
+// (2y + 1, 2x + 1), and row 0 and column 0 are the outer wall. Cells are grouped into square chunks, each built on
+// demand by a generator seeded from (seed, chunkX, chunkY). Every chunk except the origin opens one seam wall to its
+// north or west neighbour, so the chunks form a binary tree and the whole maze stays a spanning tree.
+public class InfiniteMaze {
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+    private final long seed;
+    private final int chunkSize;
+    private final Function<RandomGenerator, Generator> chunkGenerator;
+    private final Map<ChunkKey, Maze> chunks;
+
+    public InfiniteMaze(long seed) {
+        this(seed, DEFAULT_CHUNK_SIZE, DEFAULT_CACHE_CAPACITY, DFSGenerator::new);
+    }
+
+    public InfiniteMaze(
+            long seed,
+            int chunkSize,
+            int cacheCapacity,
+            Function<RandomGenerator, Generator> chunkGenerator
+    ) {
+        if (chunkSize < 1 || cacheCapacity < 1) {
+            throw new IllegalArgumentException("Chunk size and cache capacity must be positive");
+        }
+
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+        this.chunkGenerator = chunkGenerator;
+        chunks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ChunkKey, Maze> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Everything outside the non-negative quadrant is treated as solid wall.
+    public boolean isWall(long row, long column) {
+        if (row <= 0 || column <= 0) {
+            return true;
+        }
+
+        boolean cellRow = (row & 1) == 1;
+        boolean cellColumn = (column & 1) == 1;
+        if (cellRow == cellColumn) {
+            return !cellRow;
+        }
+
+        long y = row >>> 1;
+        long x = column >>> 1;
+        long chunkX = x / chunkSize;
+        long chunkY = y / chunkSize;
+        int localY = (int) (y % chunkSize);
+        int localX = (int) (x % chunkSize);
+
+        if (cellRow) {
+            if (localX > 0) {
+                return getChunk(chunkX, chunkY).isWall(2 * localY + 1, 2 * localX);
+            }
+            return !opensWest(chunkX, chunkY, localY);
+        }
+
+        if (localY > 0) {
+            return getChunk(chunkX, chunkY).isWall(2 * localY, 2 * localX + 1);
+        }
+        return !opensNorth(chunkX, chunkY, localX);
+    }
+
+    // Copies a window of the grid into a regular Maze, e.g. for rendering; the window keeps the usual entrance and
+    // exit fields of a Maze of that size, but its walls are exactly the ones of this maze.
+    public Maze window(long top, long left, int height, int width) {
+        Maze maze = new Maze(height, width);
+        long[] rowWalls = new long[(width + Long.SIZE - 1) >>> 6];
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                if (isWall(top + i, left + j)) {
+                    rowWalls[j >>> 6] |= 1L << j;
+                }
+            }
+            maze.putRow(i, rowWalls);
+            Arrays.fill(rowWalls, 0);
+        }
+        return maze;
+    }
+
+    public synchronized int getCachedChunkCount() {
+        return chunks.size();
+    }
+
+    private synchronized Maze getChunk(long chunkX, long chunkY) {
+        return chunks.computeIfAbsent(new ChunkKey(chunkX, chunkY), key -> {
+            RandomGenerator random = SeededRandoms.create(SeededHash.mix(chunkHash(chunkX, chunkY)));
+            return chunkGenerator.apply(random).generate(2 * chunkSize + 1, 2 * chunkSize + 1);
+        });
+    }
+
+    private long chunkHash(long chunkX, long chunkY) {
+        return SeededHash.hash(SeededHash.hash(seed, chunkX), chunkY);
+    }
+
+    private boolean hasNorthParent(long chunkX, long chunkY, long hash) {
+        return chunkY > 0 && (chunkX == 0 || (hash & 1) == 0);
+    }
+
+    private int seamOffset(long hash) {
+        return (int) ((hash >>> 1) % chunkSize);
+    }
+
+    private boolean opensNorth(long chunkX, long chunkY, int offset) {
+        long hash = chunkHash(chunkX, chunkY);
+        return hasNorthParent(chunkX, chunkY, hash) && seamOffset(hash) == offset;
+    }
+
+    private boolean opensWest(long chunkX, long chunkY, int offset) {
+        long hash = chunkHash(chunkX, chunkY);
+        return chunkX > 0 && !hasNorthParent(chunkX, chunkY, hash) && seamOffset(hash) == offset;
+    }
+
+    private record ChunkKey(long x, long y) {
+    }
+}
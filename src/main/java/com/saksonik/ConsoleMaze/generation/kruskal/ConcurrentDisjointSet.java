@@ -0,0 +1,58 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parent;
+
+    public ConcurrentDisjointSet(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.setPlain(i, i);
+        }
+    }
+
+    public int find(int i) {
+        int cur = i;
+
+        while (true) {
+            int next = parent.get(cur);
+            if (next == cur) {
+                return cur;
+            }
+
+            int grandparent = parent.get(next);
+            if (grandparent == next) {
+                return next;
+            }
+
+            parent.compareAndSet(cur, next, grandparent);
+            cur = grandparent;
+        }
+    }
+
+    // Roots are always linked from the smaller index to the larger one, so concurrent unions cannot form a cycle.
+    public boolean union(int i, int j) {
+        while (true) {
+            int iRoot = find(i);
+            int jRoot = find(j);
+
+            if (iRoot == jRoot) {
+                return false;
+            }
+
+            int child = Math.min(iRoot, jRoot);
+            int root = Math.max(iRoot, jRoot);
+
+            if (parent.compareAndSet(child, child, root)) {
+                return true;
+            }
+        }
+    }
+
+    // For callers that own root exclusively, e.g. by having reserved it: it must still be a root, and no other
+    // thread may link it at the same time.
+    public void link(int root, int parentRoot) {
+        parent.set(root, parentRoot);
+    }
+}
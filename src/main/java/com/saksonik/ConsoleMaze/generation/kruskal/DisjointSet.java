@@ -0,0 +1,46 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import java.util.Arrays;
+
+class DisjointSet {
+    // A negative entry marks a root and stores -(rank + 1); anything else is the parent index.
+    private final int[] parent;
+
+    DisjointSet(int size) {
+        parent = new int[size];
+        Arrays.fill(parent, -1);
+    }
+
+    public int find(int i) {
+        int cur = i;
+
+        while (parent[cur] >= 0) {
+            int next = parent[cur];
+            if (parent[next] < 0) {
+                return next;
+            }
+            parent[cur] = parent[next];
+            cur = parent[next];
+        }
+        return cur;
+    }
+
+    public boolean union(int i, int j) {
+        int iRoot = find(i);
+        int jRoot = find(j);
+
+        if (iRoot == jRoot) {
+            return false;
+        }
+
+        if (parent[iRoot] > parent[jRoot]) {
+            parent[iRoot] = jRoot;
+        } else {
+            if (parent[iRoot] == parent[jRoot]) {
+                parent[iRoot]--;
+            }
+            parent[jRoot] = iRoot;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import java.util.random.RandomGenerator;
+
+class KeyedPermutation {
+    private static final int ROUNDS = 4;
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys;
+
+    KeyedPermutation(long size, RandomGenerator random) {
+        this.size = size;
+
+        int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        halfBits = (bits + 1) / 2;
+        halfMask = (1L << halfBits) - 1;
+
+        keys = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    // The Feistel network permutes [0, 4^halfBits); cycle-walking until the value falls back into [0, size)
+    // restricts it to a bijection on [0, size).
+    long apply(long index) {
+        long value = index;
+
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+
+        for (long key : keys) {
+            long next = left ^ SeededHash.mix(right + key) & halfMask;
+            left = right;
+            right = next;
+        }
+        return left << halfBits | right;
+    }
+}
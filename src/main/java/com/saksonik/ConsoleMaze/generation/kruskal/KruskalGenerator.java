@@ -1,21 +1,13 @@
 package com.saksonik.ConsoleMaze.generation.kruskal;
 
 import com.saksonik.ConsoleMaze.generation.Generator;
-import com.saksonik.ConsoleMaze.model.Edge;
 import com.saksonik.ConsoleMaze.model.Maze;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
+import java.util.random.RandomGenerator;
 
 public class KruskalGenerator implements Generator {
-    private final Random random;
-    private int height;
-    private int width;
+    private final RandomGenerator random;
 
-    public KruskalGenerator(Random random) {
+    public KruskalGenerator(RandomGenerator random) {
         this.random = random;
     }
 
@@ -23,104 +15,28 @@ public class KruskalGenerator implements Generator {
     public Maze generate(int height, int width) {
         Maze maze = new Maze(height, width);
 
-        this.height = (height - 1) / 2;
-        this.width = (width - 1) / 2;
+        int kruskalHeight = (height - 1) / 2;
+        int kruskalWidth = (width - 1) / 2;
 
-        List<Edge> edges = createEdges();
-        Collections.shuffle(edges, random);
+        int[] edges = PackedEdges.create(kruskalHeight, kruskalWidth);
+        PackedEdges.shuffle(edges, random);
 
-        maze.putSpanningTree(buildRandomSpanningTree(edges), this.width);
+        buildRandomSpanningTree(edges, kruskalHeight * kruskalWidth, kruskalWidth, maze);
         return maze;
     }
 
-    private List<Edge> createEdges() {
-        List<Edge> edges = new ArrayList<>();
+    private void buildRandomSpanningTree(int[] edges, int cellCount, int width, Maze maze) {
+        DisjointSet disjointSet = new DisjointSet(cellCount);
+        int remaining = cellCount - 1;
 
-        for (int column = 1; column < width; column++) {
-            edges.add(new Edge(
-                    toIndex(0, column),
-                    toIndex(0, column - 1)
-            ));
-        }
-
-        for (int row = 1; row < height; row++) {
-            edges.add(new Edge(
-                    toIndex(row, 0),
-                    toIndex(row - 1, 0)
-            ));
-        }
-
-        for (int row = 1; row < height; row++) {
-            for (int column = 1; column < width; column++) {
-                edges.add(new Edge(
-                        toIndex(row, column),
-                        toIndex(row, column - 1)
-                ));
-                edges.add(new Edge(
-                        toIndex(row, column),
-                        toIndex(row - 1, column)
-                ));
-            }
-        }
-        return edges;
-    }
-
-    private int toIndex(int row, int column) {
-        return row * width + column;
-    }
-
-    private List<Edge> buildRandomSpanningTree(List<Edge> edges) {
-        DisjointSet disjointSets = new DisjointSet(width * height);
-
-        return edges
-                .stream()
-                .filter(edge -> connects(edge, disjointSets))
-                .collect(toList());
-    }
-
-    private boolean connects(Edge edge, DisjointSet disjointSet) {
-        return disjointSet.union(edge.firstCell(), edge.secondCell());
-    }
-
-    static class DisjointSet {
-        private final int[] parent;
-        private final int[] rank;
-
-        DisjointSet(int size) {
-            parent = new int[size];
-            rank = new int[size];
-            range(0, size).forEach(this::makeSet);
-        }
-
-        private void makeSet(int i) {
-            parent[i] = i;
-            rank[i] = 0;
-        }
-
-        public int find(int i) {
-            if (i != parent[i]) {
-                parent[i] = find(parent[i]);
-            }
-            return parent[i];
-        }
-
-        public boolean union(int i, int j) {
-            int iRoot = find(i);
-            int jRoot = find(j);
-
-            if (iRoot == jRoot) {
-                return false;
-            }
+        for (int i = 0; i < edges.length && remaining > 0; i++) {
+            int firstCell = PackedEdges.firstCell(edges[i]);
+            int secondCell = PackedEdges.secondCell(edges[i], width);
 
-            if (rank[iRoot] < rank[jRoot]) {
-                parent[iRoot] = jRoot;
-            } else {
-                parent[jRoot] = iRoot;
-                if (rank[iRoot] == rank[jRoot]) {
-                    rank[iRoot]++;
-                }
+            if (disjointSet.union(firstCell, secondCell)) {
+                maze.carve(firstCell, secondCell);
+                remaining--;
             }
-            return true;
         }
     }
 }
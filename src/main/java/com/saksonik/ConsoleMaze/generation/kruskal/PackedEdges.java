@@ -0,0 +1,74 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import java.util.random.RandomGenerator;
+
+final class PackedEdges {
+    static final int MAX_CELLS = 1 << 30;
+    private static final int HORIZONTAL = 0;
+    private static final int VERTICAL = 1;
+
+    private PackedEdges() {
+    }
+
+    static void checkSize(int height, int width) {
+        if ((long) height * width > MAX_CELLS) {
+            throw new IllegalArgumentException("Kruskal supports at most " + MAX_CELLS + " cells");
+        }
+    }
+
+    static int[] create(int height, int width) {
+        checkSize(height, width);
+
+        int[] edges = new int[count(height, width)];
+        int next = 0;
+
+        for (int column = 1; column < width; column++) {
+            edges[next++] = pack(toIndex(0, column, width), HORIZONTAL);
+        }
+
+        for (int row = 1; row < height; row++) {
+            edges[next++] = pack(toIndex(row, 0, width), VERTICAL);
+        }
+
+        for (int row = 1; row < height; row++) {
+            for (int column = 1; column < width; column++) {
+                edges[next++] = pack(toIndex(row, column, width), HORIZONTAL);
+                edges[next++] = pack(toIndex(row, column, width), VERTICAL);
+            }
+        }
+        return edges;
+    }
+
+    static int count(int height, int width) {
+        return (width - 1) * height + (height - 1) * width;
+    }
+
+    static void shuffle(int[] edges, RandomGenerator random) {
+        for (int i = edges.length; i > 1; i--) {
+            int j = random.nextInt(i);
+            int tmp = edges[i - 1];
+            edges[i - 1] = edges[j];
+            edges[j] = tmp;
+        }
+    }
+
+    static boolean exists(int edge, int width) {
+        return (edge & 1) == HORIZONTAL ? firstCell(edge) % width != 0 : firstCell(edge) >= width;
+    }
+
+    static int firstCell(int edge) {
+        return edge >>> 1;
+    }
+
+    static int secondCell(int edge, int width) {
+        return (edge & 1) == HORIZONTAL ? firstCell(edge) - 1 : firstCell(edge) - width;
+    }
+
+    private static int pack(int cell, int direction) {
+        return cell << 1 | direction;
+    }
+
+    private static int toIndex(int row, int column, int width) {
+        return row * width + column;
+    }
+}
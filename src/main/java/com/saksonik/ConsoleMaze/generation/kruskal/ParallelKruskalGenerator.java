@@ -0,0 +1,148 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class ParallelKruskalGenerator implements Generator {
+    private static final int WINDOW_SIZE = 1 << 14;
+    private static final int UNRESERVED = Integer.MAX_VALUE;
+    private static final byte PENDING = 0;
+    private static final byte DROPPED = 1;
+    private static final byte LINKED = 2;
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    public ParallelKruskalGenerator(RandomGenerator random) {
+        this(random, ForkJoinPool.commonPool());
+    }
+
+    public ParallelKruskalGenerator(RandomGenerator random, ForkJoinPool pool) {
+        this.random = random;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int kruskalHeight = (height - 1) / 2;
+        int kruskalWidth = (width - 1) / 2;
+
+        int[] edges = PackedEdges.create(kruskalHeight, kruskalWidth);
+        PackedEdges.shuffle(edges, random);
+
+        pool.submit(() -> new Rounds(edges, kruskalHeight * kruskalWidth, kruskalWidth, maze).run()).join();
+        return maze;
+    }
+
+    // Kruskal with deterministic reservations. The shuffled position of an edge is its priority; every round takes
+    // a window of the earliest unresolved edges and
+    //   1. finds the roots of both cells of every edge in parallel, dropping edges whose cells are already joined,
+    //      and reserves both roots for the edge with a CAS minimum on its position;
+    //   2. lets every edge that won the reservation of a root link that root under the other one and carve its
+    //      wall, all in parallel: only the winner ever links a root, so the links never race or form a cycle;
+    //   3. releases the reservations and carries the edges that won nothing over to the next round.
+    // The earliest edge of a window always wins both of its roots, so every round makes progress, and an edge only
+    // links when no earlier unresolved edge touches that component, so the accepted edges are exactly the ones the
+    // sequential KruskalGenerator accepts for the same random generator, whatever the parallelism.
+    private static final class Rounds {
+        private final int[] edges;
+        private final int width;
+        private final Maze maze;
+        private final ConcurrentDisjointSet disjointSet;
+        private final AtomicIntegerArray reservations;
+        private final int[] firstRoots = new int[WINDOW_SIZE];
+        private final int[] secondRoots = new int[WINDOW_SIZE];
+        private final byte[] states = new byte[WINDOW_SIZE];
+        private int[] window = new int[WINDOW_SIZE];
+        private int remaining;
+
+        Rounds(int[] edges, int cellCount, int width, Maze maze) {
+            this.edges = edges;
+            this.width = width;
+            this.maze = maze;
+            disjointSet = new ConcurrentDisjointSet(cellCount);
+            reservations = new AtomicIntegerArray(cellCount);
+            remaining = cellCount - 1;
+            IntStream.range(0, cellCount).parallel().forEach(cell -> reservations.setPlain(cell, UNRESERVED));
+        }
+
+        void run() {
+            int carried = 0;
+            int next = 0;
+
+            while (remaining > 0 && (carried > 0 || next < edges.length)) {
+                int taken = Math.min(WINDOW_SIZE - carried, edges.length - next);
+                for (int k = 0; k < taken; k++) {
+                    window[carried + k] = next + k;
+                }
+                next += taken;
+
+                int size = carried + taken;
+                IntStream.range(0, size).parallel().forEach(this::reserve);
+                IntStream.range(0, size).parallel().forEach(this::commit);
+                IntStream.range(0, size).parallel().forEach(this::release);
+
+                remaining -= (int) IntStream.range(0, size).parallel().filter(k -> states[k] == LINKED).count();
+                int[] left = IntStream.range(0, size).parallel().filter(k -> states[k] == PENDING)
+                        .map(k -> window[k])
+                        .toArray();
+                System.arraycopy(left, 0, window, 0, left.length);
+                carried = left.length;
+            }
+        }
+
+        private void reserve(int k) {
+            int edge = edges[window[k]];
+            int firstRoot = disjointSet.find(PackedEdges.firstCell(edge));
+            int secondRoot = disjointSet.find(PackedEdges.secondCell(edge, width));
+
+            firstRoots[k] = firstRoot;
+            secondRoots[k] = secondRoot;
+            if (firstRoot == secondRoot) {
+                states[k] = DROPPED;
+                return;
+            }
+            states[k] = PENDING;
+            reserveMin(firstRoot, window[k]);
+            reserveMin(secondRoot, window[k]);
+        }
+
+        private void reserveMin(int root, int position) {
+            int current = reservations.get(root);
+            while (position < current && !reservations.compareAndSet(root, current, position)) {
+                current = reservations.get(root);
+            }
+        }
+
+        private void commit(int k) {
+            if (states[k] != PENDING) {
+                return;
+            }
+            int position = window[k];
+
+            if (reservations.get(secondRoots[k]) == position) {
+                disjointSet.link(secondRoots[k], firstRoots[k]);
+            } else if (reservations.get(firstRoots[k]) == position) {
+                disjointSet.link(firstRoots[k], secondRoots[k]);
+            } else {
+                return;
+            }
+
+            int edge = edges[position];
+            maze.carveConcurrently(PackedEdges.firstCell(edge), PackedEdges.secondCell(edge, width));
+            states[k] = LINKED;
+        }
+
+        private void release(int k) {
+            if (states[k] != DROPPED) {
+                reservations.set(firstRoots[k], UNRESERVED);
+                reservations.set(secondRoots[k], UNRESERVED);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.saksonik.ConsoleMaze.generation.kruskal;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.random.RandomGenerator;
+
+public class PermutationKruskalGenerator implements Generator {
+    private final RandomGenerator random;
+
+    public PermutationKruskalGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int kruskalHeight = (height - 1) / 2;
+        int kruskalWidth = (width - 1) / 2;
+        PackedEdges.checkSize(kruskalHeight, kruskalWidth);
+
+        buildRandomSpanningTree(kruskalHeight * kruskalWidth, kruskalWidth, maze);
+        return maze;
+    }
+
+    // Every int below 2 * cellCount is a packed edge slot; slots for walls outside the lattice are skipped,
+    // so the walls are visited in a keyed random order without ever being stored.
+    private void buildRandomSpanningTree(int cellCount, int width, Maze maze) {
+        long slots = 2L * cellCount;
+        KeyedPermutation permutation = new KeyedPermutation(slots, random);
+        DisjointSet disjointSet = new DisjointSet(cellCount);
+        int remaining = cellCount - 1;
+
+        for (long i = 0; i < slots && remaining > 0; i++) {
+            int edge = (int) permutation.apply(i);
+
+            if (!PackedEdges.exists(edge, width)) {
+                continue;
+            }
+
+            int firstCell = PackedEdges.firstCell(edge);
+            int secondCell = PackedEdges.secondCell(edge, width);
+
+            if (disjointSet.union(firstCell, secondCell)) {
+                maze.carve(firstCell, secondCell);
+                remaining--;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.saksonik.ConsoleMaze.generation.prim;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+public class PrimGenerator implements Generator {
+    private static final int INITIAL_FRONTIER_CAPACITY = 16;
+    private final RandomGenerator random;
+
+    public PrimGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int primHeight = (height - 1) / 2;
+        int primWidth = (width - 1) / 2;
+
+        buildRandomSpanningTree(maze, primHeight, primWidth);
+        return maze;
+    }
+
+    private void buildRandomSpanningTree(Maze maze, int height, int width) {
+        int cellCount = Math.multiplyExact(height, width);
+        BitSet visited = new BitSet(cellCount);
+        BitSet inFrontier = new BitSet(cellCount);
+        Frontier frontier = new Frontier();
+        int[] visitedNeighbors = new int[4];
+
+        int start = random.nextInt(cellCount);
+        visited.set(start);
+        addNeighbors(start, height, width, visited, inFrontier, frontier);
+
+        while (frontier.size() > 0) {
+            int cell = frontier.removeRandom(random);
+            int row = cell / width;
+            int column = cell - row * width;
+            int count = 0;
+
+            if (row > 0 && visited.get(cell - width)) {
+                visitedNeighbors[count++] = cell - width;
+            }
+            if (column > 0 && visited.get(cell - 1)) {
+                visitedNeighbors[count++] = cell - 1;
+            }
+            if (row < height - 1 && visited.get(cell + width)) {
+                visitedNeighbors[count++] = cell + width;
+            }
+            if (column < width - 1 && visited.get(cell + 1)) {
+                visitedNeighbors[count++] = cell + 1;
+            }
+
+            maze.carve(cell, visitedNeighbors[random.nextInt(count)]);
+            visited.set(cell);
+            addNeighbors(cell, height, width, visited, inFrontier, frontier);
+        }
+    }
+
+    private void addNeighbors(int cell, int height, int width, BitSet visited, BitSet inFrontier, Frontier frontier) {
+        int row = cell / width;
+        int column = cell - row * width;
+
+        if (row > 0) {
+            addToFrontier(cell - width, visited, inFrontier, frontier);
+        }
+        if (column > 0) {
+            addToFrontier(cell - 1, visited, inFrontier, frontier);
+        }
+        if (row < height - 1) {
+            addToFrontier(cell + width, visited, inFrontier, frontier);
+        }
+        if (column < width - 1) {
+            addToFrontier(cell + 1, visited, inFrontier, frontier);
+        }
+    }
+
+    private void addToFrontier(int cell, BitSet visited, BitSet inFrontier, Frontier frontier) {
+        if (!visited.get(cell) && !inFrontier.get(cell)) {
+            inFrontier.set(cell);
+            frontier.add(cell);
+        }
+    }
+
+    // Cells are kept unordered, so a random one is removed by moving the last cell into its slot.
+    private static final class Frontier {
+        private int[] cells = new int[INITIAL_FRONTIER_CAPACITY];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int cell) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cells[size++] = cell;
+        }
+
+        int removeRandom(RandomGenerator random) {
+            int index = random.nextInt(size);
+            int cell = cells[index];
+            cells[index] = cells[--size];
+            return cell;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.saksonik.ConsoleMaze.generation.recursiveDivision;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+
+public class RecursiveDivisionGenerator implements Generator {
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 12;
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    public RecursiveDivisionGenerator(RandomGenerator random) {
+        this(random, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public RecursiveDivisionGenerator(RandomGenerator random, ForkJoinPool pool, int sequentialCutoff) {
+        if (sequentialCutoff < 1) {
+            throw new IllegalArgumentException("Sequential cutoff must be positive");
+        }
+
+        this.random = random;
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int divisionHeight = (height - 1) / 2;
+        int divisionWidth = (width - 1) / 2;
+        long seed = random.nextLong();
+
+        pool.invoke(new Division(maze, seed, divisionWidth, 0, 0, divisionHeight, divisionWidth));
+        return maze;
+    }
+
+    // The maze starts with every wall in place, so instead of drawing a dividing wall with one gap, a division only
+    // carves the gap and leaves the rest of the wall standing; chambers one cell thick become open corridors.
+    // Every choice is hashed from the seed and the chamber bounds, so the maze does not depend on scheduling.
+    private final class Division extends RecursiveAction {
+        private final Maze maze;
+        private final long seed;
+        private final int width;
+        private final int top;
+        private final int left;
+        private final int bottom;
+        private final int right;
+
+        private Division(Maze maze, long seed, int width, int top, int left, int bottom, int right) {
+            this.maze = maze;
+            this.seed = seed;
+            this.width = width;
+            this.top = top;
+            this.left = left;
+            this.bottom = bottom;
+            this.right = right;
+        }
+
+        @Override
+        protected void compute() {
+            if (bottom - top == 1 || right - left == 1 || (long) (bottom - top) * (right - left) <= sequentialCutoff) {
+                divide(top, left, bottom, right);
+                return;
+            }
+
+            long choice = choose(top, left, bottom, right);
+            int split = openDividingWall(choice, top, left, bottom, right);
+
+            if (isHorizontal(choice, top, left, bottom, right)) {
+                invokeAll(
+                        new Division(maze, seed, width, top, left, split, right),
+                        new Division(maze, seed, width, split, left, bottom, right)
+                );
+            } else {
+                invokeAll(
+                        new Division(maze, seed, width, top, left, bottom, split),
+                        new Division(maze, seed, width, top, split, bottom, right)
+                );
+            }
+        }
+
+        // Recurses into the smaller half and loops on the larger one, so the stack depth stays logarithmic.
+        private void divide(int top, int left, int bottom, int right) {
+            while (bottom - top > 1 && right - left > 1) {
+                long choice = choose(top, left, bottom, right);
+                int split = openDividingWall(choice, top, left, bottom, right);
+
+                if (isHorizontal(choice, top, left, bottom, right)) {
+                    if (split - top < bottom - split) {
+                        divide(top, left, split, right);
+                        top = split;
+                    } else {
+                        divide(split, left, bottom, right);
+                        bottom = split;
+                    }
+                } else {
+                    if (split - left < right - split) {
+                        divide(top, left, bottom, split);
+                        left = split;
+                    } else {
+                        divide(top, split, bottom, right);
+                        right = split;
+                    }
+                }
+            }
+
+            carveCorridor(top, left, bottom, right);
+        }
+
+        private void carveCorridor(int top, int left, int bottom, int right) {
+            for (int row = top; row < bottom; row++) {
+                for (int column = left; column < right; column++) {
+                    int cell = row * width + column;
+
+                    if (column > left) {
+                        maze.carveConcurrently(cell - 1, cell);
+                    }
+                    if (row > top) {
+                        maze.carveConcurrently(cell - width, cell);
+                    }
+                }
+            }
+        }
+
+        private long choose(int top, int left, int bottom, int right) {
+            return SeededHash.hash(SeededHash.hash(seed, (long) top << 32 | left), (long) bottom << 32 | right);
+        }
+
+        private boolean isHorizontal(long choice, int top, int left, int bottom, int right) {
+            int chamberHeight = bottom - top;
+            int chamberWidth = right - left;
+            return chamberHeight == chamberWidth ? choice < 0 : chamberHeight > chamberWidth;
+        }
+
+        // Picks the first row (or column) of the second half and carves the single gap through the dividing wall.
+        private int openDividingWall(long choice, int top, int left, int bottom, int right) {
+            long gap = SeededHash.mix(choice);
+
+            if (isHorizontal(choice, top, left, bottom, right)) {
+                int split = top + 1 + (int) ((choice >>> 1) % (bottom - top - 1));
+                int cell = split * width + left + (int) ((gap >>> 1) % (right - left));
+                maze.carveConcurrently(cell - width, cell);
+                return split;
+            }
+
+            int split = left + 1 + (int) ((choice >>> 1) % (right - left - 1));
+            int cell = (top + (int) ((gap >>> 1) % (bottom - top))) * width + split;
+            maze.carveConcurrently(cell - 1, cell);
+            return split;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.saksonik.ConsoleMaze.generation.sidewinder;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededHash;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class SidewinderGenerator implements Generator {
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    public SidewinderGenerator(RandomGenerator random) {
+        this(random, ForkJoinPool.commonPool());
+    }
+
+    public SidewinderGenerator(RandomGenerator random, ForkJoinPool pool) {
+        this.random = random;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int sidewinderHeight = (height - 1) / 2;
+        int sidewinderWidth = (width - 1) / 2;
+        long seed = random.nextLong();
+
+        // Logical row r only writes grid rows 2r and 2r + 1, and maze rows never share a word, so rows can be
+        // carved concurrently.
+        pool.submit(() -> IntStream.range(0, sidewinderHeight)
+                .parallel()
+                .forEach(row -> carveRow(maze, row, sidewinderWidth, seed))
+        ).join();
+        return maze;
+    }
+
+    private void carveRow(Maze maze, int row, int width, long seed) {
+        int runStart = row * width;
+
+        for (int column = 0; column < width; column++) {
+            int cell = row * width + column;
+            long hash = SeededHash.hash(seed, cell);
+            boolean closeRun = row > 0 && (column == width - 1 || (hash & 1) == 0);
+
+            if (!closeRun) {
+                if (column < width - 1) {
+                    maze.carve(cell, cell + 1);
+                }
+                continue;
+            }
+
+            int runCell = runStart + (int) ((hash >>> 1) % (cell - runStart + 1));
+            maze.carve(runCell, runCell - width);
+            runStart = cell + 1;
+        }
+    }
+}
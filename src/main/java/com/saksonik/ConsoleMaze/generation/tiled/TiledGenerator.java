@@ -0,0 +1,169 @@
+package com.saksonik.ConsoleMaze.generation.tiled;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededRandoms;
+import com.saksonik.ConsoleMaze.generation.kruskal.ConcurrentDisjointSet;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class TiledGenerator implements Generator {
+    private final Function<RandomGenerator, Generator> tileGenerator;
+    private final int tileSize;
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator(Function<RandomGenerator, Generator> tileGenerator, int tileSize, RandomGenerator random) {
+        this(tileGenerator, tileSize, random, ForkJoinPool.commonPool());
+    }
+
+    public TiledGenerator(
+            Function<RandomGenerator, Generator> tileGenerator,
+            int tileSize,
+            RandomGenerator random,
+            ForkJoinPool pool
+    ) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+
+        this.tileGenerator = tileGenerator;
+        this.tileSize = tileSize;
+        this.random = random;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        Tiling tiling = new Tiling((height - 1) / 2, (width - 1) / 2);
+        RandomGenerator.SplittableGenerator master = SeededRandoms.create(random.nextLong());
+
+        // Tile generators are split off up front in tile order, so the result does not depend on which thread builds
+        // which tile.
+        RandomGenerator[] tileRandoms = new RandomGenerator[tiling.tileCount()];
+        for (int i = 0; i < tileRandoms.length; i++) {
+            tileRandoms[i] = master.split();
+        }
+
+        pool.submit(() -> IntStream.range(0, tiling.tileCount())
+                .parallel()
+                .forEach(tile -> copyTile(maze, tiling, tile, tileRandoms[tile]))
+        ).join();
+        openSeams(maze, tiling, master);
+        return maze;
+    }
+
+    private void copyTile(Maze maze, Tiling tiling, int tile, RandomGenerator tileRandom) {
+        int tileHeight = tiling.tileHeight(tile);
+        int tileWidth = tiling.tileWidth(tile);
+        Maze tileMaze = tileGenerator.apply(tileRandom).generate(2 * tileHeight + 1, 2 * tileWidth + 1);
+
+        for (int i = 1; i < 2 * tileHeight; i++) {
+            for (int j = 1 + i % 2; j < 2 * tileWidth; j += 2) {
+                if (tileMaze.isWall(i, j)) {
+                    continue;
+                }
+
+                int firstRow = (i - 1) / 2;
+                int firstColumn = (j - 1) / 2;
+                maze.carveConcurrently(
+                        tiling.cell(tile, firstRow, firstColumn),
+                        tiling.cell(tile, i / 2, j / 2)
+                );
+            }
+        }
+    }
+
+    // Tiles are joined by a random spanning tree over the tile grid, and each tree edge opens exactly one wall on
+    // the shared border, so the stitched maze stays perfect.
+    private void openSeams(Maze maze, Tiling tiling, RandomGenerator random) {
+        int[] seams = new int[2 * tiling.tileCount()];
+        int seamCount = 0;
+
+        for (int tile = 0; tile < tiling.tileCount(); tile++) {
+            if (tiling.tileColumn(tile) > 0) {
+                seams[seamCount++] = tile << 1;
+            }
+            if (tiling.tileRow(tile) > 0) {
+                seams[seamCount++] = tile << 1 | 1;
+            }
+        }
+
+        for (int i = seamCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int seam = seams[i];
+            seams[i] = seams[j];
+            seams[j] = seam;
+        }
+
+        ConcurrentDisjointSet tiles = new ConcurrentDisjointSet(tiling.tileCount());
+        int remaining = tiling.tileCount() - 1;
+
+        for (int i = 0; i < seamCount && remaining > 0; i++) {
+            int tile = seams[i] >>> 1;
+            boolean vertical = (seams[i] & 1) == 1;
+            int neighbor = vertical ? tile - tiling.tilesAcross() : tile - 1;
+
+            if (!tiles.union(tile, neighbor)) {
+                continue;
+            }
+            remaining--;
+
+            if (vertical) {
+                int column = random.nextInt(tiling.tileWidth(tile));
+                int lastRow = tiling.tileHeight(neighbor) - 1;
+                maze.carve(tiling.cell(tile, 0, column), tiling.cell(neighbor, lastRow, column));
+            } else {
+                int row = random.nextInt(tiling.tileHeight(tile));
+                int lastColumn = tiling.tileWidth(neighbor) - 1;
+                maze.carve(tiling.cell(tile, row, 0), tiling.cell(neighbor, row, lastColumn));
+            }
+        }
+    }
+
+    private final class Tiling {
+        private final int height;
+        private final int width;
+        private final int tilesDown;
+        private final int tilesAcross;
+
+        private Tiling(int height, int width) {
+            this.height = height;
+            this.width = width;
+            tilesDown = (height + tileSize - 1) / tileSize;
+            tilesAcross = (width + tileSize - 1) / tileSize;
+        }
+
+        private int tileCount() {
+            return tilesDown * tilesAcross;
+        }
+
+        private int tilesAcross() {
+            return tilesAcross;
+        }
+
+        private int tileRow(int tile) {
+            return tile / tilesAcross;
+        }
+
+        private int tileColumn(int tile) {
+            return tile % tilesAcross;
+        }
+
+        private int tileHeight(int tile) {
+            return Math.min(tileSize, height - tileRow(tile) * tileSize);
+        }
+
+        private int tileWidth(int tile) {
+            return Math.min(tileSize, width - tileColumn(tile) * tileSize);
+        }
+
+        private int cell(int tile, int row, int column) {
+            return (tileRow(tile) * tileSize + row) * width + tileColumn(tile) * tileSize + column;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.saksonik.ConsoleMaze.generation.wilson;
+
+import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+public class WilsonGenerator implements Generator {
+    private static final byte UP = 0;
+    private static final byte LEFT = 1;
+    private static final byte DOWN = 2;
+    // Any other direction is right.
+    private final RandomGenerator random;
+
+    public WilsonGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Maze generate(int height, int width) {
+        Maze maze = new Maze(height, width);
+
+        int wilsonHeight = (height - 1) / 2;
+        int wilsonWidth = (width - 1) / 2;
+        int cellCount = Math.multiplyExact(wilsonHeight, wilsonWidth);
+
+        Walk walk = new Walk(wilsonHeight, wilsonWidth, new SplittableRandom(random.nextLong()));
+        walk.buildUniformSpanningTree(maze, cellCount);
+        return maze;
+    }
+
+    // Loop erasure is implicit: a walk only remembers the last direction it left each cell by, so retracing the
+    // directions from the start follows the loop-erased path into the tree.
+    private static final class Walk {
+        private final int height;
+        private final int width;
+        private final SplittableRandom random;
+        private final byte[] directions;
+        private final BitSet inTree;
+        private long randomBits;
+        private int randomBitsLeft;
+
+        Walk(int height, int width, SplittableRandom random) {
+            this.height = height;
+            this.width = width;
+            this.random = random;
+            directions = new byte[height * width];
+            inTree = new BitSet(height * width);
+        }
+
+        void buildUniformSpanningTree(Maze maze, int cellCount) {
+            inTree.set(random.nextInt(cellCount));
+
+            for (int start = inTree.nextClearBit(0); start < cellCount; start = inTree.nextClearBit(start + 1)) {
+                int cell = start;
+                while (!inTree.get(cell)) {
+                    byte direction = nextDirection(cell);
+                    directions[cell] = direction;
+                    cell = neighbor(cell, direction);
+                }
+
+                cell = start;
+                while (!inTree.get(cell)) {
+                    int next = neighbor(cell, directions[cell]);
+                    inTree.set(cell);
+                    maze.carve(cell, next);
+                    cell = next;
+                }
+            }
+        }
+
+        private byte nextDirection(int cell) {
+            int row = cell / width;
+            int column = cell - row * width;
+
+            while (true) {
+                byte direction = (byte) nextTwoBits();
+
+                boolean valid = switch (direction) {
+                    case UP -> row > 0;
+                    case LEFT -> column > 0;
+                    case DOWN -> row < height - 1;
+                    default -> column < width - 1;
+                };
+                if (valid) {
+                    return direction;
+                }
+            }
+        }
+
+        // One nextLong() serves 32 steps of the walk.
+        private int nextTwoBits() {
+            if (randomBitsLeft == 0) {
+                randomBits = random.nextLong();
+                randomBitsLeft = Long.SIZE;
+            }
+
+            int bits = (int) randomBits & 3;
+            randomBits >>>= 2;
+            randomBitsLeft -= 2;
+            return bits;
+        }
+
+        private int neighbor(int cell, byte direction) {
+            return switch (direction) {
+                case UP -> cell - width;
+                case LEFT -> cell - 1;
+                case DOWN -> cell + width;
+                default -> cell + 1;
+            };
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.saksonik.ConsoleMaze.model;
+
+public interface BitStorage {
+    long wordCount();
+
+    long getWord(long index);
+
+    void setWord(long index, long value);
+
+    default boolean get(long bit) {
+        return (getWord(bit >>> 6) & 1L << bit) != 0;
+    }
+
+    default void set(long bit) {
+        setWord(bit >>> 6, getWord(bit >>> 6) | 1L << bit);
+    }
+
+    default void clear(long bit) {
+        setWord(bit >>> 6, getWord(bit >>> 6) & ~(1L << bit));
+    }
+}
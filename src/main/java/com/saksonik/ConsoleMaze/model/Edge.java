@@ -1,4 +0,0 @@
-package com.saksonik.ConsoleMaze.model;
-
-public record Edge(int firstCell, int secondCell) {
-}
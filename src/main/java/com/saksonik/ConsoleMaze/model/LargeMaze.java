@@ -0,0 +1,137 @@
+package com.saksonik.ConsoleMaze.model;
+
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+
+// The long-indexed counterpart of Maze for grids past 2^31 cells. The layout is the same: rows are aligned to
+// 64-bit words and a set bit is a wall.
+public class LargeMaze {
+    private static final long EVEN_COLUMNS_MASK = 0x5555555555555555L;
+    private final long height;
+    private final long width;
+    private final long wordsPerRow;
+    private final BitStorage walls;
+
+    public LargeMaze(long height, long width) {
+        this(height, width, new SegmentedBitStorage(wordCount(height, width)));
+    }
+
+    public LargeMaze(long height, long width, BitStorage walls) {
+        this(height, width, walls, true);
+    }
+
+    private LargeMaze(long height, long width, BitStorage walls, boolean fill) {
+        if (height < ApplicationProperties.SIZE_LOWER_BOUND || width < ApplicationProperties.SIZE_LOWER_BOUND) {
+            throw new IllegalArgumentException(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+        }
+        if (walls.wordCount() < wordCount(height, width)) {
+            throw new IllegalArgumentException("Storage is too small for the maze");
+        }
+
+        this.height = height;
+        this.width = width;
+        wordsPerRow = wordsPerRow(width);
+        this.walls = walls;
+
+        if (fill) {
+            fillGrid();
+        }
+    }
+
+    // Wraps storage that already holds a maze of this size, e.g. a reopened MappedBitStorage, without refilling it.
+    public static LargeMaze wrap(long height, long width, BitStorage walls) {
+        return new LargeMaze(height, width, walls, false);
+    }
+
+    public static long wordCount(long height, long width) {
+        return Math.multiplyExact(height, wordsPerRow(width));
+    }
+
+    private static long wordsPerRow(long width) {
+        return (width + Long.SIZE - 1) >>> 6;
+    }
+
+    private void fillGrid() {
+        long lastWordMask = -1L >>> (wordsPerRow * Long.SIZE - width);
+
+        for (long i = 0; i < height; i++) {
+            boolean fullRow = (i & 1) == 0 || i == height - 1 && height % 2 == 0;
+            long pattern = fullRow ? -1L : EVEN_COLUMNS_MASK;
+            long rowStart = i * wordsPerRow;
+
+            for (long j = 0; j < wordsPerRow; j++) {
+                walls.setWord(rowStart + j, pattern);
+            }
+            walls.setWord(rowStart + wordsPerRow - 1, walls.getWord(rowStart + wordsPerRow - 1) & lastWordMask);
+            if (width % 2 == 0) {
+                setWall(i, width - 1);
+            }
+        }
+
+        clearWall(0, 1);
+        clearWall(height - 1, getExitColumn());
+        if (height % 2 == 0) {
+            clearWall(height - 2, getExitColumn());
+        }
+    }
+
+    private long bitIndex(long row, long column) {
+        return row * wordsPerRow * Long.SIZE + column;
+    }
+
+    private void setWall(long row, long column) {
+        walls.set(bitIndex(row, column));
+    }
+
+    private void clearWall(long row, long column) {
+        walls.clear(bitIndex(row, column));
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public long getWidth() {
+        return width;
+    }
+
+    public BitStorage getWalls() {
+        return walls;
+    }
+
+    public boolean isWall(long row, long column) {
+        return walls.get(bitIndex(row, column));
+    }
+
+    public long getEntranceRow() {
+        return 0;
+    }
+
+    public long getEntranceColumn() {
+        return 1;
+    }
+
+    public long getExitRow() {
+        return height % 2 == 0 ? height - 2 : height - 1;
+    }
+
+    public long getExitColumn() {
+        return width - ApplicationProperties.SIZE_LOWER_BOUND + width % 2;
+    }
+
+    public void carve(long firstCell, long secondCell) {
+        long cellsPerRow = (width - 1) / 2;
+
+        clearWall(
+                firstCell / cellsPerRow + secondCell / cellsPerRow + 1,
+                firstCell % cellsPerRow + secondCell % cellsPerRow + 1
+        );
+    }
+
+    public void putRow(long row, long[] rowWalls) {
+        long rowStart = row * wordsPerRow;
+
+        for (int j = 0; j < wordsPerRow; j++) {
+            walls.setWord(rowStart + j, rowWalls[j]);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.saksonik.ConsoleMaze.model;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+public class Lattice {
+    public static final int NO_NEIGHBOR = -1;
+    private final int size;
+    private final int[] offsets;
+    private final int[] targets;
+    private final BitSet visited;
+
+    public Lattice(int width, int height) {
+        size = Math.multiplyExact(width, height);
+        offsets = new int[size + 1];
+        targets = new int[Math.multiplyExact(2, (width - 1) * height + (height - 1) * width)];
+        visited = new BitSet(size);
+
+        fillNeighbors(width, height);
+    }
+
+    // Neighbors are laid out up, left, down, right, the order the DFS and BFS goldens were recorded with, so an
+    // in-place shuffle with the same generator keeps drawing the same mazes.
+    private void fillNeighbors(int width, int height) {
+        int next = 0;
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                int cell = row * width + column;
+                offsets[cell] = next;
+
+                if (row > 0) {
+                    targets[next++] = cell - width;
+                }
+                if (column > 0) {
+                    targets[next++] = cell - 1;
+                }
+                if (row < height - 1) {
+                    targets[next++] = cell + width;
+                }
+                if (column < width - 1) {
+                    targets[next++] = cell + 1;
+                }
+            }
+        }
+        offsets[size] = next;
+    }
+
+    public void shuffleNeighbors(RandomGenerator random) {
+        for (int cell = 0; cell < size; cell++) {
+            int from = offsets[cell];
+
+            for (int i = offsets[cell + 1] - from; i > 1; i--) {
+                swap(from + i - 1, from + random.nextInt(i));
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = targets[i];
+        targets[i] = targets[j];
+        targets[j] = tmp;
+    }
+
+    public int getFirstUnvisitedNeighbor(int cell) {
+        for (int i = offsets[cell]; i < offsets[cell + 1]; i++) {
+            if (!visited.get(targets[i])) {
+                return targets[i];
+            }
+        }
+        return NO_NEIGHBOR;
+    }
+
+    public int getNeighborCount(int cell) {
+        return offsets[cell + 1] - offsets[cell];
+    }
+
+    public int getNeighbor(int cell, int position) {
+        return targets[offsets[cell] + position];
+    }
+
+    public void makeVisited(int cell) {
+        visited.set(cell);
+    }
+
+    public boolean isVisited(int cell) {
+        return visited.get(cell);
+    }
+
+    public int size() {
+        return size;
+    }
+}
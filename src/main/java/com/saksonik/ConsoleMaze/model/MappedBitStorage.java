@@ -0,0 +1,111 @@
+package com.saksonik.ConsoleMaze.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Checksum;
+
+// Words live in a memory-mapped file, little-endian, mapped in fixed-size regions because a single mapping cannot
+// exceed 2 GiB. Nothing is kept on the Java heap, and reopening a file needs no parse step.
+public class MappedBitStorage implements BitStorage, Closeable {
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_WORDS = 1L << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = (int) SEGMENT_WORDS - 1;
+    private final FileChannel channel;
+    private final long wordCount;
+    private final MappedByteBuffer[] mappings;
+    private final LongBuffer[] segments;
+
+    private MappedBitStorage(FileChannel channel, FileChannel.MapMode mode, long offset, long wordCount)
+            throws IOException {
+        this.channel = channel;
+        this.wordCount = wordCount;
+
+        int segmentCount = Math.toIntExact((wordCount + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT);
+        mappings = new MappedByteBuffer[segmentCount];
+        segments = new LongBuffer[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            long firstWord = (long) i << SEGMENT_SHIFT;
+            long words = Math.min(SEGMENT_WORDS, wordCount - firstWord);
+
+            long position = offset + firstWord * Long.BYTES;
+
+            mappings[i] = channel.map(mode, position, words * Long.BYTES);
+            segments[i] = mappings[i].order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        }
+    }
+
+    // Creates (or truncates) the file and maps wordCount zeroed words.
+    public static MappedBitStorage create(Path path, long wordCount) throws IOException {
+        FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        return map(channel, FileChannel.MapMode.READ_WRITE, 0, wordCount);
+    }
+
+    public static MappedBitStorage open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return map(channel, FileChannel.MapMode.READ_WRITE, 0, channel.size() / Long.BYTES);
+    }
+
+    // Maps wordCount words starting at a byte offset of an existing file, e.g. the body of a saved maze. Writes
+    // through a read-only mapping throw ReadOnlyBufferException.
+    public static MappedBitStorage openReadOnly(Path path, long offset, long wordCount) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return map(channel, FileChannel.MapMode.READ_ONLY, offset, wordCount);
+    }
+
+    private static MappedBitStorage map(FileChannel channel, FileChannel.MapMode mode, long offset, long wordCount)
+            throws IOException {
+        try {
+            return new MappedBitStorage(channel, mode, offset, wordCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public long wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public long getWord(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+    }
+
+    @Override
+    public void setWord(long index, long value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) index & SEGMENT_MASK, value);
+    }
+
+    // Feeds the mapped bytes to the checksum straight from the page cache.
+    public void updateChecksum(Checksum checksum) {
+        for (MappedByteBuffer mapping : mappings) {
+            checksum.update(mapping.duplicate().clear());
+        }
+    }
+
+    public void force() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
@@ -28,6 +28,17 @@ public class Node {
         return gridOfNodes;
     }
 
+    public static Node[][] createGridOfNodes(WallGrid maze) {
+        Node[][] gridOfNodes = new Node[maze.getHeight()][maze.getWidth()];
+
+        for (int i = 0; i < gridOfNodes.length; i++) {
+            for (int j = 0; j < gridOfNodes[0].length; j++) {
+                gridOfNodes[i][j] = new Node(i, j, maze.isWall(i, j));
+            }
+        }
+        return gridOfNodes;
+    }
+
     public int getRow() {
         return row;
     }
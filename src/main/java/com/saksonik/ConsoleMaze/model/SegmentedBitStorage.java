@@ -0,0 +1,40 @@
+package com.saksonik.ConsoleMaze.model;
+
+// Words are spread over fixed-size long[] segments, so the storage is not bounded by the maximum Java array length.
+public class SegmentedBitStorage implements BitStorage {
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_WORDS = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_WORDS - 1;
+    private final long wordCount;
+    private final long[][] segments;
+
+    public SegmentedBitStorage(long wordCount) {
+        if (wordCount < 0) {
+            throw new IllegalArgumentException("Word count must not be negative");
+        }
+
+        this.wordCount = wordCount;
+        long segmentCount = (wordCount + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT;
+        segments = new long[Math.toIntExact(segmentCount)][];
+
+        for (int i = 0; i < segments.length; i++) {
+            long remaining = wordCount - ((long) i << SEGMENT_SHIFT);
+            segments[i] = new long[(int) Math.min(SEGMENT_WORDS, remaining)];
+        }
+    }
+
+    @Override
+    public long wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public long getWord(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)][(int) index & SEGMENT_MASK];
+    }
+
+    @Override
+    public void setWord(long index, long value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)][(int) index & SEGMENT_MASK] = value;
+    }
+}
@@ -0,0 +1,254 @@
+package com.saksonik.ConsoleMaze.model;
+
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+// A perfect maze stored as its spanning tree: every logical cell keeps the 2-bit direction to its parent, rooted at
+// the entrance cell. Walls are derived on the fly, so the grid is never expanded.
+public class SpanningTreeMaze implements WallGrid {
+    public static final int UP = 0;
+    public static final int LEFT = 1;
+    public static final int DOWN = 2;
+    public static final int RIGHT = 3;
+    private static final int DIRECTIONS_PER_WORD = Long.SIZE / 2;
+    private static final int ROOT = 0;
+    private final int height;
+    private final int width;
+    private final int treeHeight;
+    private final int treeWidth;
+    private final long[] parents;
+
+    public SpanningTreeMaze(int height, int width, long[] parents) {
+        if (height < ApplicationProperties.SIZE_LOWER_BOUND || width < ApplicationProperties.SIZE_LOWER_BOUND) {
+            throw new IllegalArgumentException(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+        }
+
+        this.height = height;
+        this.width = width;
+        treeHeight = (height - 1) / 2;
+        treeWidth = (width - 1) / 2;
+
+        int cellCount = Math.multiplyExact(treeHeight, treeWidth);
+        if (parents.length != wordCount(cellCount)) {
+            throw new IllegalArgumentException("Expected " + wordCount(cellCount) + " words of parent directions");
+        }
+        this.parents = parents;
+    }
+
+    private static int wordCount(int cellCount) {
+        return (cellCount + DIRECTIONS_PER_WORD - 1) / DIRECTIONS_PER_WORD;
+    }
+
+    // Walks the maze breadth-first from the entrance cell; fails unless the passages form a spanning tree.
+    public static SpanningTreeMaze fromMaze(Maze maze) {
+        int treeHeight = (maze.getHeight() - 1) / 2;
+        int treeWidth = (maze.getWidth() - 1) / 2;
+        int cellCount = treeHeight * treeWidth;
+        long[] parents = new long[wordCount(cellCount)];
+        BitSet visited = new BitSet(cellCount);
+        int[] queue = new int[cellCount];
+        int head = 0;
+        int tail = 0;
+        int passages = 0;
+
+        queue[tail++] = ROOT;
+        visited.set(ROOT);
+        while (head < tail) {
+            int cell = queue[head++];
+            int row = 2 * (cell / treeWidth) + 1;
+            int column = 2 * (cell % treeWidth) + 1;
+
+            for (int direction = UP; direction <= RIGHT; direction++) {
+                int gapRow = row + rowDelta(direction);
+                int gapColumn = column + columnDelta(direction);
+
+                if (gapRow <= 0 || gapColumn <= 0 || gapRow >= 2 * treeHeight || gapColumn >= 2 * treeWidth
+                        || maze.isWall(gapRow, gapColumn)) {
+                    continue;
+                }
+                passages++;
+
+                int neighbor = neighbor(cell, direction, treeWidth);
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    setDirection(parents, neighbor, opposite(direction));
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        // Every passage is seen from both of its cells.
+        if (tail != cellCount || passages != 2 * (cellCount - 1)) {
+            throw new IllegalArgumentException("The maze is not a spanning tree");
+        }
+        return new SpanningTreeMaze(maze.getHeight(), maze.getWidth(), parents);
+    }
+
+    public Maze toMaze() {
+        Maze maze = new Maze(height, width);
+
+        for (int cell = 1; cell < treeHeight * treeWidth; cell++) {
+            maze.carve(cell, parent(cell));
+        }
+        return maze;
+    }
+
+    public long[] getParents() {
+        return parents;
+    }
+
+    public int getParentDirection(int cell) {
+        return (int) (parents[cell / DIRECTIONS_PER_WORD] >>> cell % DIRECTIONS_PER_WORD * 2) & 3;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public boolean isWall(int row, int column) {
+        if (row == 0) {
+            return column != getEntrance().column();
+        }
+        if (row >= 2 * treeHeight) {
+            return column != getExitColumn();
+        }
+        if (column == 0 || column >= 2 * treeWidth) {
+            return true;
+        }
+
+        boolean cellRow = (row & 1) == 1;
+        boolean cellColumn = (column & 1) == 1;
+        if (cellRow == cellColumn) {
+            return !cellRow;
+        }
+
+        // The root has no parent, whatever its stored direction says.
+        int cell = (row - 1) / 2 * treeWidth + (column - 1) / 2;
+        if (cellRow) {
+            return !(cell != ROOT && getParentDirection(cell) == RIGHT || getParentDirection(cell + 1) == LEFT);
+        }
+        return !(cell != ROOT && getParentDirection(cell) == DOWN || getParentDirection(cell + treeWidth) == UP);
+    }
+
+    @Override
+    public Cell getEntrance() {
+        return new Cell(0, 1, Cell.Type.PASSAGE);
+    }
+
+    @Override
+    public Cell getExit() {
+        return new Cell(height % 2 == 0 ? height - 2 : height - 1, getExitColumn(), Cell.Type.PASSAGE);
+    }
+
+    // The path between two passages is the tree path between their logical cells: both climb to their lowest
+    // common ancestor, found by marking the ancestors of the first one in a bitset. Openings on the border and
+    // gaps between cells are attached to the nearest cell.
+    public List<Cell> findPath(Cell from, Cell to) {
+        int first = toTreeCell(from);
+        int second = toTreeCell(to);
+        BitSet ancestors = new BitSet(treeHeight * treeWidth);
+
+        for (int cell = first; ; cell = parent(cell)) {
+            ancestors.set(cell);
+            if (cell == ROOT) {
+                break;
+            }
+        }
+
+        List<Integer> down = new ArrayList<>();
+        int common = second;
+        while (!ancestors.get(common)) {
+            down.add(common);
+            common = parent(common);
+        }
+        Collections.reverse(down);
+
+        List<Integer> cells = new ArrayList<>();
+        for (int cell = first; cell != common; cell = parent(cell)) {
+            cells.add(cell);
+        }
+        cells.add(common);
+        cells.addAll(down);
+
+        return expand(from, cells, to);
+    }
+
+    private List<Cell> expand(Cell from, List<Integer> cells, Cell to) {
+        List<Cell> path = new ArrayList<>();
+        addEscape(path, from.row(), from.column());
+
+        for (int i = 0; i < cells.size(); i++) {
+            int row = 2 * (cells.get(i) / treeWidth) + 1;
+            int column = 2 * (cells.get(i) % treeWidth) + 1;
+
+            if (i > 0) {
+                int previousRow = 2 * (cells.get(i - 1) / treeWidth) + 1;
+                int previousColumn = 2 * (cells.get(i - 1) % treeWidth) + 1;
+                addEscape(path, (row + previousRow) / 2, (column + previousColumn) / 2);
+            }
+            addEscape(path, row, column);
+        }
+
+        addEscape(path, to.row(), to.column());
+        return path;
+    }
+
+    private void addEscape(List<Cell> path, int row, int column) {
+        Cell cell = new Cell(row, column, Cell.Type.ESCAPE);
+
+        if (path.isEmpty() || !path.get(path.size() - 1).equals(cell)) {
+            path.add(cell);
+        }
+    }
+
+    private int toTreeCell(Cell cell) {
+        int row = Math.min(Math.max(cell.row(), 1), 2 * treeHeight - 1);
+        int column = Math.min(Math.max(cell.column(), 1), 2 * treeWidth - 1);
+        return (row - 1) / 2 * treeWidth + (column - 1) / 2;
+    }
+
+    private int getExitColumn() {
+        return width - ApplicationProperties.SIZE_LOWER_BOUND + width % 2;
+    }
+
+    private int parent(int cell) {
+        return neighbor(cell, getParentDirection(cell), treeWidth);
+    }
+
+    private static void setDirection(long[] parents, int cell, int direction) {
+        int shift = cell % DIRECTIONS_PER_WORD * 2;
+        parents[cell / DIRECTIONS_PER_WORD] = parents[cell / DIRECTIONS_PER_WORD] & ~(3L << shift)
+                | (long) direction << shift;
+    }
+
+    private static int neighbor(int cell, int direction, int treeWidth) {
+        return switch (direction) {
+            case UP -> cell - treeWidth;
+            case LEFT -> cell - 1;
+            case DOWN -> cell + treeWidth;
+            default -> cell + 1;
+        };
+    }
+
+    private static int opposite(int direction) {
+        return direction + 2 & 3;
+    }
+
+    private static int rowDelta(int direction) {
+        return direction == UP ? -1 : direction == DOWN ? 1 : 0;
+    }
+
+    private static int columnDelta(int direction) {
+        return direction == LEFT ? -1 : direction == RIGHT ? 1 : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.saksonik.ConsoleMaze.model;
+
+public interface WallGrid {
+    int getHeight();
+
+    int getWidth();
+
+    boolean isWall(int row, int column);
+
+    default boolean isEscape(int row, int column) {
+        return false;
+    }
+
+    Cell getEntrance();
+
+    Cell getExit();
+}
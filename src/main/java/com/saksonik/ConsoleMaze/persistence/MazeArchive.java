@@ -0,0 +1,272 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.generation.RowSink;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.SegmentedBitStorage;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.FIXED_HEADER_BYTES;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.HAS_SEED;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.MAGIC;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.TRAILER_BYTES;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.VERSION;
+import static com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter.spreadBits;
+
+// Reads an archive written by MazeArchiveWriter. Only the header and the block index are loaded on open; a cell or
+// row read inflates just the block holding it, and the last inflated block is kept for the next read.
+public class MazeArchive implements Closeable {
+    private static final int NO_BLOCK = -1;
+    private final FileChannel channel;
+    private final long height;
+    private final int width;
+    private final int wordsPerRow;
+    private final int rowsPerBlock;
+    private final OptionalLong seed;
+    private final String algorithm;
+    private final long[] offsets;
+    private final Inflater inflater = new Inflater();
+    private final long[] words;
+    private byte[] compressed = new byte[0];
+    private byte[] inflated;
+    private int cachedBlock = NO_BLOCK;
+    private long inflatedBlockCount;
+
+    private MazeArchive(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer fixed = readFully(0, FIXED_HEADER_BYTES);
+        if (fixed.getInt(0) != MAGIC) {
+            throw new IOException("Not a maze archive");
+        }
+        int version = Short.toUnsignedInt(fixed.getShort(4));
+        if (version > VERSION) {
+            throw new IOException("Unsupported maze archive version " + version);
+        }
+        int nameLength = Short.toUnsignedInt(fixed.getShort(32));
+        ByteBuffer rest = readFully(FIXED_HEADER_BYTES, nameLength + Integer.BYTES);
+        CRC32 headerChecksum = new CRC32();
+        headerChecksum.update(fixed.array());
+        headerChecksum.update(rest.array(), 0, nameLength);
+        if ((int) headerChecksum.getValue() != rest.getInt(nameLength)) {
+            throw new IOException("Corrupted maze archive header");
+        }
+
+        height = fixed.getLong(8);
+        width = fixed.getInt(16);
+        rowsPerBlock = fixed.getInt(20);
+        seed = (fixed.getShort(6) & HAS_SEED) != 0 ? OptionalLong.of(fixed.getLong(24)) : OptionalLong.empty();
+        algorithm = new String(rest.array(), 0, nameLength, StandardCharsets.UTF_8);
+        wordsPerRow = (width + Long.SIZE - 1) >>> 6;
+
+        if (rowsPerBlock < 1 || height < 1 || width < 1) {
+            throw new IOException("Corrupted maze archive header");
+        }
+        offsets = readIndex(Math.toIntExact((height + rowsPerBlock - 1) / rowsPerBlock + 1));
+        words = new long[Math.multiplyExact(rowsPerBlock, wordsPerRow)];
+        inflated = new byte[words.length * Long.BYTES];
+    }
+
+    public static MazeArchive open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MazeArchive(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private long[] readIndex(int offsetCount) throws IOException {
+        long size = channel.size();
+        if (size < TRAILER_BYTES) {
+            throw new EOFException("Truncated maze archive");
+        }
+        ByteBuffer trailer = readFully(size - Long.BYTES - Integer.BYTES, Long.BYTES + Integer.BYTES);
+        long indexOffset = trailer.getLong(0);
+        if (trailer.getInt(Long.BYTES) != MAGIC
+                || indexOffset + (long) offsetCount * Long.BYTES + TRAILER_BYTES != size) {
+            throw new EOFException("Truncated maze archive");
+        }
+
+        ByteBuffer index = readFully(indexOffset, offsetCount * Long.BYTES + Integer.BYTES);
+        CRC32 checksum = new CRC32();
+        checksum.update(index.array(), 0, offsetCount * Long.BYTES);
+        if ((int) checksum.getValue() != index.getInt(offsetCount * Long.BYTES)) {
+            throw new IOException("Corrupted maze archive index");
+        }
+
+        long[] result = new long[offsetCount];
+        index.asLongBuffer().get(result);
+        return result;
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Truncated maze archive");
+            }
+        }
+        return buffer.clear();
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getBlockCount() {
+        return offsets.length - 1;
+    }
+
+    public long getCompressedSize() throws IOException {
+        return channel.size();
+    }
+
+    // How many blocks have been inflated so far; a measure of read amplification.
+    public synchronized long getInflatedBlockCount() {
+        return inflatedBlockCount;
+    }
+
+    public synchronized boolean isWall(long row, long column) {
+        Objects.checkIndex(column, width);
+        int first = loadRow(row);
+        return (words[first + (int) (column >>> 6)] & 1L << column) != 0;
+    }
+
+    // Hands rows [firstRow, firstRow + rowCount) to the sink, inflating only the blocks they span.
+    public synchronized void readRows(long firstRow, long rowCount, RowSink sink) {
+        long[] row = new long[wordsPerRow];
+
+        for (long i = firstRow; i < firstRow + rowCount; i++) {
+            System.arraycopy(words, loadRow(i), row, 0, wordsPerRow);
+            sink.accept(i, row);
+        }
+    }
+
+    // Copies a window of the grid into a regular Maze for rendering, like InfiniteMaze.window.
+    public Maze window(long top, long left, int height, int width) {
+        Objects.checkFromIndexSize(top, height, this.height);
+        Objects.checkFromIndexSize(left, width, this.width);
+        Maze maze = new Maze(height, width);
+        long[] rowWalls = new long[(width + Long.SIZE - 1) >>> 6];
+
+        readRows(top, height, (row, walls) -> {
+            Arrays.fill(rowWalls, 0);
+            for (int j = 0; j < width; j++) {
+                long column = left + j;
+                if ((walls[(int) (column >>> 6)] & 1L << column) != 0) {
+                    rowWalls[j >>> 6] |= 1L << j;
+                }
+            }
+            maze.putRow((int) (row - top), rowWalls);
+        });
+        return maze;
+    }
+
+    public LargeMaze toLargeMaze() {
+        LargeMaze maze = LargeMaze.wrap(height, width, new SegmentedBitStorage(LargeMaze.wordCount(height, width)));
+        readRows(0, height, maze::putRow);
+        return maze;
+    }
+
+    public Maze toMaze() {
+        Maze maze = new Maze(Math.toIntExact(height), width);
+        readRows(0, height, (row, walls) -> maze.putRow((int) row, walls));
+        seed.ifPresent(maze::setSeed);
+        return maze;
+    }
+
+    // Returns where the row starts in words.
+    private int loadRow(long row) {
+        Objects.checkIndex(row, height);
+        int block = (int) (row / rowsPerBlock);
+
+        if (block != cachedBlock) {
+            try {
+                inflate(block);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cachedBlock = block;
+        }
+        return (int) (row % rowsPerBlock) * wordsPerRow;
+    }
+
+    private void inflate(int block) throws IOException {
+        int length = Math.toIntExact(offsets[block + 1] - offsets[block]);
+        if (compressed.length < length) {
+            compressed = new byte[length];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(compressed, 0, length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offsets[block] + buffer.position()) < 0) {
+                throw new EOFException("Truncated maze archive");
+            }
+        }
+
+        long rows = Math.min(rowsPerBlock, height - (long) block * rowsPerBlock);
+        int expected = (int) rows * wordsPerRow * Long.BYTES;
+        inflater.reset();
+        inflater.setInput(compressed, 0, length);
+        try {
+            int produced = 0;
+            while (produced < expected && !inflater.finished()) {
+                int count = inflater.inflate(inflated, produced, expected - produced);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                produced += count;
+            }
+            if (produced != expected || !inflater.finished()) {
+                throw new IOException("Corrupted maze archive block " + block);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted maze archive block " + block, e);
+        }
+
+        ByteBuffer planes = ByteBuffer.wrap(inflated, 0, expected).order(ByteOrder.LITTLE_ENDIAN);
+        for (int word = 0; word < expected / Long.BYTES; word++) {
+            int rowStart = word / wordsPerRow * wordsPerRow * Long.BYTES;
+            int k = word % wordsPerRow;
+            int even = planes.getInt(rowStart + k * Integer.BYTES);
+            int odd = planes.getInt(rowStart + (wordsPerRow + k) * Integer.BYTES);
+
+            words[word] = spreadBits(even) | spreadBits(odd) << 1;
+        }
+        inflatedBlockCount++;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+}
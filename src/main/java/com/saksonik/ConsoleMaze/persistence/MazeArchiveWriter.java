@@ -0,0 +1,256 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.generation.RowSink;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// Streams rows into an archive, so a generator can write a maze that never fits in memory:
+//   new EllerGenerator(random).generate(height, width, writer)
+// Rows must arrive in order. Every rowsPerBlock rows are deflated on their own, and the block offsets are written
+// as an index at the end, so MazeArchive can inflate any block without touching the others.
+//
+// Before deflating, each row is split into its even and its odd columns, 32 columns per int. In a maze row one of
+// the two halves is fixed (all walls or all passages), so it deflates to almost nothing, and the archive comes out
+// about half the size of the raw bits, where plain deflate manages about 60%.
+//
+// Header:  0 int magic, 4 short version, 6 short flags, 8 long height, 16 int width, 20 int rowsPerBlock,
+//          24 long seed, 32 short algorithm length n, 34 n bytes of UTF-8 algorithm name, then int header CRC32.
+// Trailer: blockCount + 1 long offsets (the last one is where the index starts), int CRC32 of the offsets,
+//          long index offset, int magic.
+public class MazeArchiveWriter implements RowSink, Closeable {
+    // "MZAR" when the first four bytes are read as ASCII.
+    static final int MAGIC = 0x52415A4D;
+    static final int VERSION = 1;
+    static final int HAS_SEED = 1;
+    static final int FIXED_HEADER_BYTES = 34;
+    static final int TRAILER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int TARGET_BLOCK_BYTES = 1 << 16;
+    private final FileChannel channel;
+    private final long height;
+    private final int wordsPerRow;
+    private final int rowsPerBlock;
+    private final ByteBuffer block;
+    private final Deflater deflater;
+    private final long[] offsets;
+    private byte[] compressed;
+    private long position;
+    private long nextRow;
+    private int blockCount;
+
+    public MazeArchiveWriter(Path path, long height, int width, OptionalLong seed, String algorithm)
+            throws IOException {
+        this(path, height, width, seed, algorithm, defaultRowsPerBlock(width), Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public MazeArchiveWriter(
+            Path path,
+            long height,
+            int width,
+            OptionalLong seed,
+            String algorithm,
+            int rowsPerBlock,
+            int level
+    ) throws IOException {
+        if (height < ApplicationProperties.SIZE_LOWER_BOUND || width < ApplicationProperties.SIZE_LOWER_BOUND) {
+            throw new IllegalArgumentException(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+        }
+        if (rowsPerBlock < 1) {
+            throw new IllegalArgumentException("A block must hold at least one row");
+        }
+        byte[] name = algorithm.getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("The algorithm name is too long");
+        }
+
+        this.height = height;
+        wordsPerRow = (width + Long.SIZE - 1) >>> 6;
+        this.rowsPerBlock = rowsPerBlock;
+        block = ByteBuffer.allocate(Math.multiplyExact(rowsPerBlock, wordsPerRow * Long.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        compressed = new byte[block.capacity() + 64];
+        offsets = new long[Math.toIntExact((height + rowsPerBlock - 1) / rowsPerBlock + 1)];
+
+        channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        );
+        deflater = new Deflater(level);
+        try {
+            writeHeader(width, seed, name);
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    // Blocks of about 64 KiB inflate in well under a millisecond, which keeps the cost of a random cell read low.
+    private static int defaultRowsPerBlock(int width) {
+        return Math.max(1, TARGET_BLOCK_BYTES / (((width + Long.SIZE - 1) >>> 6) * Long.BYTES));
+    }
+
+    public static void write(Path path, Maze maze, String algorithm) throws IOException {
+        try (MazeArchiveWriter writer = new MazeArchiveWriter(
+                path,
+                maze.getHeight(),
+                maze.getWidth(),
+                maze.getSeed(),
+                algorithm
+        )) {
+            long[] row = new long[writer.wordsPerRow];
+            for (int i = 0; i < maze.getHeight(); i++) {
+                maze.readRow(i, row);
+                writer.accept(i, row);
+            }
+        }
+    }
+
+    public static void write(Path path, LargeMaze maze, OptionalLong seed, String algorithm) throws IOException {
+        try (MazeArchiveWriter writer = new MazeArchiveWriter(
+                path,
+                maze.getHeight(),
+                Math.toIntExact(maze.getWidth()),
+                seed,
+                algorithm
+        )) {
+            long[] row = new long[writer.wordsPerRow];
+            for (long i = 0; i < maze.getHeight(); i++) {
+                for (int k = 0; k < row.length; k++) {
+                    row[k] = maze.getWalls().getWord(i * row.length + k);
+                }
+                writer.accept(i, row);
+            }
+        }
+    }
+
+    private void writeHeader(int width, OptionalLong seed, byte[] name) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_BYTES + name.length + Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putShort((short) VERSION)
+                .putShort((short) (seed.isPresent() ? HAS_SEED : 0))
+                .putLong(height)
+                .putInt(width)
+                .putInt(rowsPerBlock)
+                .putLong(seed.orElse(0))
+                .putShort((short) name.length)
+                .put(name);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(header.array(), 0, header.position());
+        header.putInt((int) checksum.getValue()).flip();
+        writeFully(header);
+    }
+
+    @Override
+    public void accept(long row, long[] walls) {
+        if (row != nextRow || row >= height) {
+            throw new IllegalStateException("Expected row " + nextRow + " but got " + row);
+        }
+        for (int k = 0; k < wordsPerRow; k++) {
+            block.putInt((int) evenBits(walls[k]));
+        }
+        for (int k = 0; k < wordsPerRow; k++) {
+            block.putInt((int) evenBits(walls[k] >>> 1));
+        }
+        nextRow++;
+
+        if (!block.hasRemaining() || nextRow == height) {
+            try {
+                flushBlock();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Packs bits 0, 2, 4, ... of word into the low 32 bits.
+    static long evenBits(long word) {
+        long bits = word & 0x5555555555555555L;
+        bits = (bits | bits >>> 1) & 0x3333333333333333L;
+        bits = (bits | bits >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | bits >>> 4) & 0x00FF00FF00FF00FFL;
+        bits = (bits | bits >>> 8) & 0x0000FFFF0000FFFFL;
+        return (bits | bits >>> 16) & 0x00000000FFFFFFFFL;
+    }
+
+    // The inverse of evenBits: spreads the 32 bits of half over bits 0, 2, 4, ...
+    static long spreadBits(int half) {
+        long bits = Integer.toUnsignedLong(half);
+        bits = (bits | bits << 16) & 0x0000FFFF0000FFFFL;
+        bits = (bits | bits << 8) & 0x00FF00FF00FF00FFL;
+        bits = (bits | bits << 4) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | bits << 2) & 0x3333333333333333L;
+        return (bits | bits << 1) & 0x5555555555555555L;
+    }
+
+    private void flushBlock() throws IOException {
+        deflater.reset();
+        deflater.setInput(block.array(), 0, block.position());
+        deflater.finish();
+
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, 2 * compressed.length);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+
+        offsets[blockCount++] = position;
+        writeFully(ByteBuffer.wrap(compressed, 0, length));
+        block.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    // Fails if fewer than height rows were written, leaving an archive that MazeArchive refuses to open.
+    @Override
+    public void close() throws IOException {
+        try {
+            if (nextRow != height) {
+                throw new IllegalStateException("Only " + nextRow + " of " + height + " rows were written");
+            }
+            offsets[blockCount] = position;
+
+            ByteBuffer index = ByteBuffer.allocate(offsets.length * Long.BYTES + TRAILER_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (long offset : offsets) {
+                index.putLong(offset);
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(index.array(), 0, index.position());
+            index.putInt((int) checksum.getValue())
+                    .putLong(offsets[blockCount])
+                    .putInt(MAGIC)
+                    .flip();
+            writeFully(index);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() throws IOException {
+        deflater.end();
+        channel.close();
+    }
+}
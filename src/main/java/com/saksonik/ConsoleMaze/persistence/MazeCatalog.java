@@ -0,0 +1,404 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+// Secondary indexes over a MazeStore, kept in memory: every indexed value maps to the set of ids that have it, so
+// a query intersects a few sets instead of reading every maze. Numeric attributes sit in TreeMaps, so they also
+// answer range conditions; the algorithm and the seed are only ever matched exactly and use HashMaps.
+//
+// Heights, widths and algorithms take few distinct values, so their ids are kept in bitsets, which cost id / 8
+// bytes each. Seeds are practically unique per maze and metrics of large mazes spread widely, so a bitset per
+// value would grow quadratically with the catalog; those keys keep their ids in sorted int arrays instead.
+//
+// Metrics cost a full pass over a maze, so they are also written to a side file, and reopening the catalog only
+// reads that file and the record headers. Each 24-byte entry is
+//    0 long solution length, 8 long dead ends, 16 int body CRC32 of the record it describes, 20 int CRC32 of the
+//      first 20 bytes,
+// and an entry that is torn, or whose body checksum no longer matches the record with its id, is measured again
+// instead of trusted. Mazes appended to the store behind the catalog's back are picked up, and measured, by the
+// next add or query.
+public class MazeCatalog implements Closeable {
+    public static final String METRICS_FILE_NAME = "mazes.cat";
+    private static final int METRICS_ENTRY_BYTES = 2 * Long.BYTES + 2 * Integer.BYTES;
+    private static final int METRICS_CHECKED_BYTES = 2 * Long.BYTES + Integer.BYTES;
+    private final MazeStore store;
+    private final FileChannel metricsFile;
+    private final NavigableMap<Long, BitSet> byHeight = new TreeMap<>();
+    private final NavigableMap<Long, BitSet> byWidth = new TreeMap<>();
+    private final Map<String, BitSet> byAlgorithm = new HashMap<>();
+    private final Map<Long, IdList> bySeed = new HashMap<>();
+    private final NavigableMap<Long, IdList> bySolutionLength = new TreeMap<>();
+    private final NavigableMap<Long, IdList> byDeadEnds = new TreeMap<>();
+    private long[] solutionLengths = new long[16];
+    private long[] deadEnds = new long[16];
+    private int size;
+
+    private MazeCatalog(MazeStore store, FileChannel metricsFile) throws IOException {
+        this.store = store;
+        this.metricsFile = metricsFile;
+
+        int stored = (int) Math.min(metricsFile.size() / METRICS_ENTRY_BYTES, store.size());
+        ByteBuffer entries = ByteBuffer.allocate(stored * METRICS_ENTRY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (entries.hasRemaining()) {
+            metricsFile.read(entries, entries.position());
+        }
+        entries.flip();
+
+        // The store may have dropped records on recovery that the side file still describes.
+        metricsFile.truncate((long) stored * METRICS_ENTRY_BYTES);
+        for (int id = 0; id < stored; id++) {
+            MazeHeader header = store.getHeader(id);
+            ByteBuffer entry = entries.slice(id * METRICS_ENTRY_BYTES, METRICS_ENTRY_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            if (entry.getInt(16) == header.bodyChecksum()
+                    && entry.getInt(METRICS_CHECKED_BYTES) == entryChecksum(entry)) {
+                index(id, header, new MazeMetrics(entry.getLong(0), entry.getLong(8)));
+            } else {
+                MazeMetrics metrics = measure(id);
+                writeMetrics(id, header, metrics);
+                index(id, header, metrics);
+            }
+        }
+        catchUp();
+    }
+
+    public static MazeCatalog open(Path directory) throws IOException {
+        MazeStore store = MazeStore.open(directory);
+        FileChannel metricsFile = null;
+
+        try {
+            metricsFile = FileChannel.open(
+                    directory.resolve(METRICS_FILE_NAME),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            );
+            return new MazeCatalog(store, metricsFile);
+        } catch (IOException | RuntimeException e) {
+            if (metricsFile != null) {
+                MazeStore.closeQuietly(metricsFile, e);
+            }
+            MazeStore.closeQuietly(store, e);
+            throw e;
+        }
+    }
+
+    public MazeStore getStore() {
+        return store;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long add(Maze maze, String algorithm) throws IOException {
+        return add(maze, algorithm, null);
+    }
+
+    // The solution may be null; when it is given, its length is taken as the solution length. The maze is measured
+    // before it is appended, so a maze that cannot be measured never reaches the store.
+    public synchronized long add(Maze maze, String algorithm, List<Cell> solution) throws IOException {
+        catchUp();
+        MazeMetrics metrics = solution == null
+                ? MazeMetrics.measure(maze)
+                : MazeMetrics.measure(maze, solution.size());
+        long id = store.append(maze, algorithm, solution);
+
+        MazeHeader header = store.getHeader(id);
+        writeMetrics(id, header, metrics);
+        index(id, header, metrics);
+        return id;
+    }
+
+    public synchronized MazeMetrics getMetrics(long id) {
+        int index = (int) Objects.checkIndex(id, size);
+        return new MazeMetrics(solutionLengths[index], deadEnds[index]);
+    }
+
+    public Query query() {
+        return new Query();
+    }
+
+    private void catchUp() throws IOException {
+        for (int id = size; id < store.size(); id++) {
+            MazeHeader header = store.getHeader(id);
+            MazeMetrics metrics = measure(id);
+            writeMetrics(id, header, metrics);
+            index(id, header, metrics);
+        }
+    }
+
+    private MazeMetrics measure(long id) throws IOException {
+        try (MazeFile mazeFile = store.open(id)) {
+            return store.getSolution(id)
+                    .map(solution -> MazeMetrics.measure(mazeFile.asWallGrid(), solution.size()))
+                    .orElseGet(() -> MazeMetrics.measure(mazeFile.asWallGrid()));
+        }
+    }
+
+    private void writeMetrics(long id, MazeHeader header, MazeMetrics metrics) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(METRICS_ENTRY_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(metrics.solutionLength())
+                .putLong(metrics.deadEnds())
+                .putInt(header.bodyChecksum());
+        entry.putInt(entryChecksum(entry)).flip();
+        long position = id * METRICS_ENTRY_BYTES;
+
+        while (entry.hasRemaining()) {
+            position += metricsFile.write(entry, position);
+        }
+    }
+
+    private static int entryChecksum(ByteBuffer entry) {
+        CRC32 checksum = new CRC32();
+        checksum.update(entry.slice(0, METRICS_CHECKED_BYTES));
+        return (int) checksum.getValue();
+    }
+
+    private void index(long id, MazeHeader header, MazeMetrics metrics) {
+        int bit = (int) id;
+
+        postings(byHeight, header.height()).set(bit);
+        postings(byWidth, header.width()).set(bit);
+        postings(byAlgorithm, header.algorithm()).set(bit);
+        header.seed().ifPresent(seed -> bySeed.computeIfAbsent(seed, k -> new IdList()).add(bit));
+        bySolutionLength.computeIfAbsent(metrics.solutionLength(), k -> new IdList()).add(bit);
+        byDeadEnds.computeIfAbsent(metrics.deadEnds(), k -> new IdList()).add(bit);
+
+        if (size == solutionLengths.length) {
+            solutionLengths = Arrays.copyOf(solutionLengths, 2 * size);
+            deadEnds = Arrays.copyOf(deadEnds, 2 * size);
+        }
+        solutionLengths[bit] = metrics.solutionLength();
+        deadEnds[bit] = metrics.deadEnds();
+        size++;
+    }
+
+    private static <K> BitSet postings(Map<K, BitSet> index, K key) {
+        return index.computeIfAbsent(key, k -> new BitSet());
+    }
+
+    private static BitSet union(NavigableMap<Long, BitSet> index, long min, long max) {
+        BitSet result = new BitSet();
+        index.subMap(min, true, max, true).values().forEach(result::or);
+        return result;
+    }
+
+    private static BitSet unionOfLists(NavigableMap<Long, IdList> index, long min, long max) {
+        BitSet result = new BitSet();
+        index.subMap(min, true, max, true).values().forEach(ids -> ids.addTo(result));
+        return result;
+    }
+
+    private static long size(NavigableMap<Long, IdList> index, long min, long max) {
+        return index.subMap(min, true, max, true).values().stream().mapToLong(IdList::size).sum();
+    }
+
+    // Bytes held by the id sets of all indexes, not counting the maps around them; a measure of how the catalog
+    // grows with the store.
+    public synchronized long getIndexSize() {
+        long bytes = 0;
+        for (Map<?, BitSet> index : List.of(byHeight, byWidth, byAlgorithm)) {
+            bytes += index.values().stream().mapToLong(ids -> ids.size() / Byte.SIZE).sum();
+        }
+        for (Map<Long, IdList> index : List.of(bySeed, bySolutionLength, byDeadEnds)) {
+            bytes += index.values().stream().mapToLong(IdList::capacityBytes).sum();
+        }
+        return bytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            metricsFile.force(false);
+            metricsFile.close();
+        } finally {
+            store.close();
+        }
+    }
+
+    // All conditions are combined with AND; bounds are inclusive. Matching ids come back in ascending order.
+    public final class Query {
+        private long minHeight = Long.MIN_VALUE;
+        private long maxHeight = Long.MAX_VALUE;
+        private long minWidth = Long.MIN_VALUE;
+        private long maxWidth = Long.MAX_VALUE;
+        private long minSolutionLength = Long.MIN_VALUE;
+        private long maxSolutionLength = Long.MAX_VALUE;
+        private long minDeadEnds = Long.MIN_VALUE;
+        private long maxDeadEnds = Long.MAX_VALUE;
+        private int limit = Integer.MAX_VALUE;
+        private final List<String> algorithms = new ArrayList<>();
+        private final List<Long> seeds = new ArrayList<>();
+
+        private Query() {
+        }
+
+        public Query height(long height) {
+            return heightBetween(height, height);
+        }
+
+        public Query heightBetween(long min, long max) {
+            minHeight = Math.max(minHeight, min);
+            maxHeight = Math.min(maxHeight, max);
+            return this;
+        }
+
+        public Query width(long width) {
+            return widthBetween(width, width);
+        }
+
+        public Query widthBetween(long min, long max) {
+            minWidth = Math.max(minWidth, min);
+            maxWidth = Math.min(maxWidth, max);
+            return this;
+        }
+
+        public Query algorithm(String algorithm) {
+            algorithms.add(algorithm);
+            return this;
+        }
+
+        public Query seed(long seed) {
+            seeds.add(seed);
+            return this;
+        }
+
+        public Query solutionLengthBetween(long min, long max) {
+            minSolutionLength = Math.max(minSolutionLength, min);
+            maxSolutionLength = Math.min(maxSolutionLength, max);
+            return this;
+        }
+
+        public Query deadEndsBetween(long min, long max) {
+            minDeadEnds = Math.max(minDeadEnds, min);
+            maxDeadEnds = Math.min(maxDeadEnds, max);
+            return this;
+        }
+
+        public Query limit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public List<Long> ids() throws IOException {
+            synchronized (MazeCatalog.this) {
+                catchUp();
+                BitSet candidates = candidates();
+                List<Long> result = new ArrayList<>();
+
+                for (int id = candidates.nextSetBit(0); id >= 0 && result.size() < limit;
+                     id = candidates.nextSetBit(id + 1)) {
+                    if (solutionLengths[id] >= minSolutionLength && solutionLengths[id] <= maxSolutionLength
+                            && deadEnds[id] >= minDeadEnds && deadEnds[id] <= maxDeadEnds) {
+                        result.add((long) id);
+                    }
+                }
+                return result;
+            }
+        }
+
+        public int count() throws IOException {
+            return ids().size();
+        }
+
+        // Intersects the sets of the exact and dimension conditions, smallest first. The metric ranges are only
+        // turned into a set when nothing narrower is available; otherwise they are checked per candidate against the
+        // metric arrays, which is cheaper than OR-ing one set per distinct value.
+        private BitSet candidates() {
+            List<BitSet> sets = new ArrayList<>();
+            for (String algorithm : algorithms) {
+                sets.add(byAlgorithm.getOrDefault(algorithm, new BitSet()));
+            }
+            for (long seed : seeds) {
+                BitSet ids = new BitSet();
+                IdList list = bySeed.get(seed);
+                if (list != null) {
+                    list.addTo(ids);
+                }
+                sets.add(ids);
+            }
+            if (minHeight > Long.MIN_VALUE || maxHeight < Long.MAX_VALUE) {
+                sets.add(minHeight > maxHeight ? new BitSet() : union(byHeight, minHeight, maxHeight));
+            }
+            if (minWidth > Long.MIN_VALUE || maxWidth < Long.MAX_VALUE) {
+                sets.add(minWidth > maxWidth ? new BitSet() : union(byWidth, minWidth, maxWidth));
+            }
+
+            if (sets.isEmpty()) {
+                if (minSolutionLength > maxSolutionLength || minDeadEnds > maxDeadEnds) {
+                    return new BitSet();
+                }
+                boolean bySolution = minSolutionLength > Long.MIN_VALUE || maxSolutionLength < Long.MAX_VALUE;
+                boolean byDeadEndCount = minDeadEnds > Long.MIN_VALUE || maxDeadEnds < Long.MAX_VALUE;
+
+                if (bySolution && (!byDeadEndCount || size(bySolutionLength, minSolutionLength,
+                        maxSolutionLength) <= size(byDeadEnds, minDeadEnds, maxDeadEnds))) {
+                    return unionOfLists(bySolutionLength, minSolutionLength, maxSolutionLength);
+                }
+                if (byDeadEndCount) {
+                    return unionOfLists(byDeadEnds, minDeadEnds, maxDeadEnds);
+                }
+                BitSet all = new BitSet(size);
+                all.set(0, size);
+                return all;
+            }
+
+            sets.sort(Comparator.comparingInt(BitSet::cardinality));
+            BitSet result = (BitSet) sets.get(0).clone();
+            for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+                result.and(sets.get(i));
+            }
+            return result;
+        }
+    }
+
+    // Ids in ascending order; the catalog indexes ids in order, so adding is an append. Starts with room for a
+    // single id, since most seeds belong to one maze.
+    private static final class IdList {
+        private int[] ids = new int[1];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, 2 * size);
+            }
+            ids[size++] = id;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long capacityBytes() {
+            return (long) ids.length * Integer.BYTES;
+        }
+
+        void addTo(BitSet set) {
+            for (int i = 0; i < size; i++) {
+                set.set(ids[i]);
+            }
+        }
+    }
+}
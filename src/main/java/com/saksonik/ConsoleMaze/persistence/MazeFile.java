@@ -0,0 +1,140 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.MappedBitStorage;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+import static com.saksonik.ConsoleMaze.model.Cell.Type.PASSAGE;
+
+// A saved maze opened in place: only the header is read, and the body is mapped read-only, so opening costs the
+// same for any size and cells are paged in as they are touched.
+public class MazeFile implements Closeable {
+    private final MazeHeader header;
+    private final MappedBitStorage body;
+
+    private MazeFile(MazeHeader header, MappedBitStorage body) {
+        this.header = header;
+        this.body = body;
+    }
+
+    public static void save(Path path, Maze maze, String algorithm) throws IOException {
+        try (FileChannel channel = create(path)) {
+            MazeFormat.write(channel, 0, maze, algorithm);
+        }
+    }
+
+    public static void save(Path path, LargeMaze maze, OptionalLong seed, String algorithm) throws IOException {
+        try (FileChannel channel = create(path)) {
+            MazeFormat.write(channel, 0, maze, seed, algorithm);
+        }
+    }
+
+    private static FileChannel create(Path path) throws IOException {
+        return FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        );
+    }
+
+    public static MazeFile open(Path path) throws IOException {
+        return open(path, 0);
+    }
+
+    // Opens the record that starts at position, e.g. one of several mazes stored back to back.
+    public static MazeFile open(Path path, long position) throws IOException {
+        MazeHeader header;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            header = MazeFormat.readHeader(channel, position);
+        }
+        return new MazeFile(
+                header,
+                MappedBitStorage.openReadOnly(path, position + header.bodyOffset(), header.bodyWordCount())
+        );
+    }
+
+    public MazeHeader getHeader() {
+        return header;
+    }
+
+    // The body is only checksummed on request, since doing it on open would read the whole file.
+    public boolean verifyChecksum() {
+        CRC32 checksum = new CRC32();
+        body.updateChecksum(checksum);
+        return (int) checksum.getValue() == header.bodyChecksum();
+    }
+
+    public LargeMaze asLargeMaze() {
+        return LargeMaze.wrap(header.height(), header.width(), body);
+    }
+
+    // A view for the solvers and renderers; it is only valid while the file is open.
+    public WallGrid asWallGrid() {
+        if (header.height() > Integer.MAX_VALUE || header.width() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The maze is too large for int indices");
+        }
+        return new MappedGrid();
+    }
+
+    // Copies the body into a mutable heap Maze.
+    public Maze toMaze() {
+        WallGrid grid = asWallGrid();
+        Maze maze = new Maze(grid.getHeight(), grid.getWidth());
+        int wordsPerRow = (int) (header.bodyWordCount() / header.height());
+        long[] row = new long[wordsPerRow];
+
+        for (int i = 0; i < grid.getHeight(); i++) {
+            for (int k = 0; k < wordsPerRow; k++) {
+                row[k] = body.getWord((long) i * wordsPerRow + k);
+            }
+            maze.putRow(i, row);
+        }
+        header.seed().ifPresent(maze::setSeed);
+        return maze;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+
+    private final class MappedGrid implements WallGrid {
+        private final long bitsPerRow = header.bodyWordCount() / header.height() * Long.SIZE;
+        private final Cell entrance = new Cell((int) header.entranceRow(), (int) header.entranceColumn(), PASSAGE);
+        private final Cell exit = new Cell((int) header.exitRow(), (int) header.exitColumn(), PASSAGE);
+
+        @Override
+        public int getHeight() {
+            return (int) header.height();
+        }
+
+        @Override
+        public int getWidth() {
+            return (int) header.width();
+        }
+
+        @Override
+        public boolean isWall(int row, int column) {
+            return body.get(row * bitsPerRow + column);
+        }
+
+        @Override
+        public Cell getEntrance() {
+            return entrance;
+        }
+
+        @Override
+        public Cell getExit() {
+            return exit;
+        }
+    }
+}
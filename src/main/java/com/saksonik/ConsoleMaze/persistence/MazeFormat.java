@@ -0,0 +1,247 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.model.BitStorage;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+
+// A record is a little-endian header followed by the wall bits exactly as LargeMaze keeps them: rows aligned to
+// 64-bit words, a set bit is a wall. The body starts on a 64-byte boundary, so it can be mapped and used as is.
+//
+//   0  int   magic            8  long height       32 long entranceRow     64 long  bodyWordCount
+//   4  short version         16 long width        40 long entranceColumn  72 int   bodyChecksum (CRC32)
+//   6  short flags           24 long seed         48 long exitRow         76 short algorithm length n
+//                                                 56 long exitColumn      78 n bytes of UTF-8 algorithm name
+//   78 + n  int  header checksum (CRC32 of the preceding header bytes)
+public final class MazeFormat {
+    // "MAZE" when the first four bytes are read as ASCII.
+    public static final int MAGIC = 0x455A414D;
+    public static final int VERSION = 1;
+    private static final int HAS_SEED = 1;
+    private static final int FIXED_HEADER_BYTES = 78;
+    private static final int MAX_ALGORITHM_BYTES = Short.MAX_VALUE;
+    private static final int BODY_ALIGNMENT = 64;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private MazeFormat() {
+    }
+
+    // Writes the record at position and returns its length.
+    public static long write(FileChannel channel, long position, Maze maze, String algorithm) throws IOException {
+        byte[] name = encode(algorithm);
+        long bodyOffset = bodyOffset(name.length);
+        BodyWriter body = new BodyWriter(channel, position + bodyOffset);
+        long[] row = new long[(maze.getWidth() + Long.SIZE - 1) >>> 6];
+
+        for (int i = 0; i < maze.getHeight(); i++) {
+            maze.readRow(i, row);
+            for (long word : row) {
+                body.put(word);
+            }
+        }
+        body.flush();
+
+        writeHeader(channel, position, new MazeHeader(
+                VERSION,
+                maze.getHeight(),
+                maze.getWidth(),
+                maze.getSeed(),
+                algorithm,
+                maze.getEntrance().row(),
+                maze.getEntrance().column(),
+                maze.getExit().row(),
+                maze.getExit().column(),
+                bodyOffset,
+                body.wordCount,
+                (int) body.checksum.getValue()
+        ), name);
+        return bodyOffset + body.wordCount * Long.BYTES;
+    }
+
+    public static long write(FileChannel channel, long position, LargeMaze maze, OptionalLong seed, String algorithm)
+            throws IOException {
+        byte[] name = encode(algorithm);
+        long bodyOffset = bodyOffset(name.length);
+        BodyWriter body = new BodyWriter(channel, position + bodyOffset);
+        BitStorage walls = maze.getWalls();
+
+        for (long i = 0; i < LargeMaze.wordCount(maze.getHeight(), maze.getWidth()); i++) {
+            body.put(walls.getWord(i));
+        }
+        body.flush();
+
+        writeHeader(channel, position, new MazeHeader(
+                VERSION,
+                maze.getHeight(),
+                maze.getWidth(),
+                seed,
+                algorithm,
+                maze.getEntranceRow(),
+                maze.getEntranceColumn(),
+                maze.getExitRow(),
+                maze.getExitColumn(),
+                bodyOffset,
+                body.wordCount,
+                (int) body.checksum.getValue()
+        ), name);
+        return bodyOffset + body.wordCount * Long.BYTES;
+    }
+
+    // Checks the header and that the whole body is present, but does not read the body.
+    public static MazeHeader readHeader(FileChannel channel, long position) throws IOException {
+        ByteBuffer fixed = readFully(channel, position, FIXED_HEADER_BYTES);
+        if (fixed.getInt(0) != MAGIC) {
+            throw new IOException("Not a maze record");
+        }
+        int version = Short.toUnsignedInt(fixed.getShort(4));
+        if (version != VERSION) {
+            throw new IOException("Unsupported maze format version " + version);
+        }
+
+        int nameLength = Short.toUnsignedInt(fixed.getShort(76));
+        ByteBuffer rest = readFully(channel, position + FIXED_HEADER_BYTES, nameLength + Integer.BYTES);
+        CRC32 checksum = new CRC32();
+        checksum.update(fixed.array());
+        checksum.update(rest.array(), 0, nameLength);
+        if ((int) checksum.getValue() != rest.getInt(nameLength)) {
+            throw new IOException("Corrupted maze header");
+        }
+
+        MazeHeader header = new MazeHeader(
+                version,
+                fixed.getLong(8),
+                fixed.getLong(16),
+                (fixed.getShort(6) & HAS_SEED) != 0 ? OptionalLong.of(fixed.getLong(24)) : OptionalLong.empty(),
+                new String(rest.array(), 0, nameLength, StandardCharsets.UTF_8),
+                fixed.getLong(32),
+                fixed.getLong(40),
+                fixed.getLong(48),
+                fixed.getLong(56),
+                bodyOffset(nameLength),
+                fixed.getLong(64),
+                fixed.getInt(72)
+        );
+        if (!isConsistent(header)) {
+            throw new IOException("Corrupted maze header");
+        }
+        if (channel.size() < position + header.recordLength()) {
+            throw new EOFException("Truncated maze body");
+        }
+        return header;
+    }
+
+    // The header checksum only proves the bytes were not damaged; this rejects values no writer produces, before
+    // they overflow the body arithmetic or reach a WallGrid as an entrance outside the grid.
+    private static boolean isConsistent(MazeHeader header) {
+        long height = header.height();
+        long width = header.width();
+        if (height < ApplicationProperties.SIZE_LOWER_BOUND || width < ApplicationProperties.SIZE_LOWER_BOUND
+                || width > Long.MAX_VALUE - Long.SIZE) {
+            return false;
+        }
+
+        long maxBodyWords = (Long.MAX_VALUE - header.bodyOffset()) / Long.BYTES;
+        if (height > maxBodyWords / ((width + Long.SIZE - 1) >>> 6)) {
+            return false;
+        }
+        return header.bodyWordCount() == LargeMaze.wordCount(height, width)
+                && isInside(header.entranceRow(), header.entranceColumn(), height, width)
+                && isInside(header.exitRow(), header.exitColumn(), height, width);
+    }
+
+    private static boolean isInside(long row, long column, long height, long width) {
+        return row >= 0 && row < height && column >= 0 && column < width;
+    }
+
+    private static void writeHeader(FileChannel channel, long position, MazeHeader header, byte[] name)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_HEADER_BYTES + name.length + Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putShort((short) header.version())
+                .putShort((short) (header.seed().isPresent() ? HAS_SEED : 0))
+                .putLong(header.height())
+                .putLong(header.width())
+                .putLong(header.seed().orElse(0))
+                .putLong(header.entranceRow())
+                .putLong(header.entranceColumn())
+                .putLong(header.exitRow())
+                .putLong(header.exitColumn())
+                .putLong(header.bodyWordCount())
+                .putInt(header.bodyChecksum())
+                .putShort((short) name.length)
+                .put(name);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) checksum.getValue()).flip();
+
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static byte[] encode(String algorithm) {
+        byte[] name = algorithm.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_ALGORITHM_BYTES) {
+            throw new IllegalArgumentException("The algorithm name is too long");
+        }
+        return name;
+    }
+
+    private static long bodyOffset(int nameLength) {
+        long headerBytes = FIXED_HEADER_BYTES + nameLength + Integer.BYTES;
+        return (headerBytes + BODY_ALIGNMENT - 1) / BODY_ALIGNMENT * BODY_ALIGNMENT;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Truncated maze header");
+            }
+        }
+        return buffer.clear();
+    }
+
+    // Streams words through one direct buffer, checksumming each chunk just before it is written.
+    private static final class BodyWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32 checksum = new CRC32();
+        private long position;
+        private long wordCount;
+
+        private BodyWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        private void put(long word) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putLong(word);
+            wordCount++;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+}
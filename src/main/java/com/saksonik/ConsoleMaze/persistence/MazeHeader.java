@@ -0,0 +1,24 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import java.util.OptionalLong;
+
+// Offsets are relative to the start of the record, so the same header works for a standalone file and for a
+// record inside a larger one.
+public record MazeHeader(
+        int version,
+        long height,
+        long width,
+        OptionalLong seed,
+        String algorithm,
+        long entranceRow,
+        long entranceColumn,
+        long exitRow,
+        long exitColumn,
+        long bodyOffset,
+        long bodyWordCount,
+        int bodyChecksum
+) {
+    public long recordLength() {
+        return bodyOffset + bodyWordCount * Long.BYTES;
+    }
+}
@@ -0,0 +1,100 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.WallGrid;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.util.Arrays;
+
+// solutionLength counts the cells of the shortest path from the entrance to the exit, both included, like the size
+// of a solver's path; 0 when there is none. A dead end is any open cell other than the entrance and the exit with
+// exactly one open neighbour.
+public record MazeMetrics(long solutionLength, long deadEnds) {
+    public static MazeMetrics measure(WallGrid grid) {
+        return new MazeMetrics(solutionLength(grid), deadEnds(grid));
+    }
+
+    public static MazeMetrics measure(WallGrid grid, long solutionLength) {
+        return new MazeMetrics(solutionLength, deadEnds(grid));
+    }
+
+    // A breadth-first search over long cell indices, a layer at a time. Only the current and the next layer are
+    // queued and visited cells take one bit each, so the search needs about as much memory as the maze itself and
+    // works on grids past 2^31 cells.
+    private static long solutionLength(WallGrid grid) {
+        int width = grid.getWidth();
+        long start = (long) grid.getEntrance().row() * width + grid.getEntrance().column();
+        long target = (long) grid.getExit().row() * width + grid.getExit().column();
+        long[] visited = new long[Math.toIntExact(((long) grid.getHeight() * width + Long.SIZE - 1) / Long.SIZE)];
+        long[] layer = new long[16];
+        long[] next = new long[16];
+        int layerSize = 1;
+
+        layer[0] = start;
+        visited[(int) (start >>> 6)] |= 1L << start;
+        for (long length = 1; layerSize > 0; length++) {
+            int nextSize = 0;
+
+            for (int k = 0; k < layerSize; k++) {
+                long cell = layer[k];
+                if (cell == target) {
+                    return length;
+                }
+                for (int[] delta : ApplicationProperties.DELTAS) {
+                    int row = (int) (cell / width) + delta[0];
+                    int column = (int) (cell % width) + delta[1];
+                    if (!isOpen(grid, row, column)) {
+                        continue;
+                    }
+
+                    long neighbor = (long) row * width + column;
+                    int word = (int) (neighbor >>> 6);
+                    if ((visited[word] & 1L << neighbor) == 0) {
+                        visited[word] |= 1L << neighbor;
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, 2 * nextSize);
+                        }
+                        next[nextSize++] = neighbor;
+                    }
+                }
+            }
+
+            long[] swap = layer;
+            layer = next;
+            next = swap;
+            layerSize = nextSize;
+        }
+        return 0;
+    }
+
+    private static long deadEnds(WallGrid grid) {
+        Cell entrance = grid.getEntrance();
+        Cell exit = grid.getExit();
+        long count = 0;
+
+        for (int i = 0; i < grid.getHeight(); i++) {
+            for (int j = 0; j < grid.getWidth(); j++) {
+                if (grid.isWall(i, j)
+                        || i == entrance.row() && j == entrance.column()
+                        || i == exit.row() && j == exit.column()) {
+                    continue;
+                }
+
+                int openNeighbors = 0;
+                for (int[] delta : ApplicationProperties.DELTAS) {
+                    if (isOpen(grid, i + delta[0], j + delta[1])) {
+                        openNeighbors++;
+                    }
+                }
+                if (openNeighbors == 1) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean isOpen(WallGrid grid, int row, int column) {
+        return row >= 0 && row < grid.getHeight() && column >= 0 && column < grid.getWidth()
+                && !grid.isWall(row, column);
+    }
+}
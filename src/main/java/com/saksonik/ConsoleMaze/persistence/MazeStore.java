@@ -0,0 +1,392 @@
+package com.saksonik.ConsoleMaze.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import static com.saksonik.ConsoleMaze.model.Cell.Type.ESCAPE;
+
+// Many mazes in one append-only segment file, with ids handed out in order. The index file is just the segment
+// offset of every id, 8 bytes each, so opening a store reads the index instead of walking the segment.
+//
+// Each record is a frame that starts on a 64-byte boundary:
+//    0 int magic, 4 int flags, 8 long id, 16 long maze record length, 24 long solution cell count,
+//   64 a MazeFormat record, then the solution as (row, column) int pairs, then int CRC32 of the frame header and
+//      the solution, and int commit marker.
+// The rest of the frame is forced to disk before the trailer and the index entry are written, so a trailer on disk
+// vouches for the body and recovery only has to check the bodies of frames the index does not list. A frame cut
+// short by a crash is recognised on the next open and truncated away, together with any index entries pointing
+// at it.
+//
+// One store instance is the only writer; a file lock keeps other writers out. Records are never changed after
+// they are written, and a new id is only published once its frame is complete, so any number of threads may read
+// while another appends without waiting for it. A store opened with openReadOnly takes no lock and recovers
+// nothing: it serves the ids that were committed when it was opened and never sees later appends.
+public class MazeStore implements Closeable {
+    public static final String SEGMENT_FILE_NAME = "mazes.seg";
+    public static final String INDEX_FILE_NAME = "mazes.idx";
+    // "MREC" and "DONE" when read as ASCII.
+    private static final int FRAME_MAGIC = 0x4345524D;
+    private static final int COMMIT_MAGIC = 0x454E4F44;
+    private static final int HAS_SOLUTION = 1;
+    private static final int FRAME_HEADER_BYTES = 64;
+    private static final int FRAME_FIELDS_BYTES = 32;
+    private static final int FRAME_TRAILER_BYTES = 2 * Integer.BYTES;
+    private static final int FRAME_ALIGNMENT = 64;
+    private static final int INDEX_READ_BYTES = 1 << 16;
+    // The solution is read into one buffer.
+    private static final long MAX_SOLUTION_CELLS = Integer.MAX_VALUE / (2 * Integer.BYTES);
+    // Ids are ints, and the offsets must fit in one array.
+    private static final int MAX_RECORDS = Integer.MAX_VALUE - 8;
+    private final Path segmentPath;
+    private final FileChannel segment;
+    private final FileChannel index;
+    private final FileLock lock;
+    // Readers take no lock: the writer fills offsets[count] (growing into a new array first if needed) before it
+    // publishes the new count, so a reader that sees a count also sees an array holding that many offsets.
+    private volatile long[] offsets;
+    private volatile int count;
+    private long segmentEnd;
+
+    private MazeStore(Path segmentPath, FileChannel segment, FileChannel index, FileLock lock) {
+        this.segmentPath = segmentPath;
+        this.segment = segment;
+        this.index = index;
+        this.lock = lock;
+    }
+
+    public static MazeStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return open(directory, false);
+    }
+
+    public static MazeStore openReadOnly(Path directory) throws IOException {
+        return open(directory, true);
+    }
+
+    // Nothing opened here outlives a failed open: closing the index channel also releases its lock, so a later
+    // open of the same directory is not refused.
+    private static MazeStore open(Path directory, boolean readOnly) throws IOException {
+        Path segmentPath = directory.resolve(SEGMENT_FILE_NAME);
+        FileChannel segment = FileChannel.open(segmentPath, openOptions(readOnly));
+        FileChannel index = null;
+
+        try {
+            index = FileChannel.open(directory.resolve(INDEX_FILE_NAME), openOptions(readOnly));
+            MazeStore store = new MazeStore(segmentPath, segment, index, readOnly ? null : tryLock(index));
+            if (readOnly) {
+                store.readCommitted();
+            } else {
+                store.recover();
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(segment, e);
+            if (index != null) {
+                closeQuietly(index, e);
+            }
+            throw e;
+        }
+    }
+
+    static void closeQuietly(Closeable closeable, Exception failure) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static StandardOpenOption[] openOptions(boolean readOnly) {
+        if (readOnly) {
+            return new StandardOpenOption[]{StandardOpenOption.READ};
+        }
+        return new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE};
+    }
+
+    private static FileLock tryLock(FileChannel index) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = index.tryLock();
+        } catch (OverlappingFileLockException e) {
+            fileLock = null;
+        }
+        if (fileLock == null) {
+            throw new IOException("The maze store is already open");
+        }
+        return fileLock;
+    }
+
+    // Drops index entries whose frames did not make it to disk, re-indexes complete frames the index missed, and
+    // cuts the segment after the last complete frame.
+    private void recover() throws IOException {
+        int indexed = readCommitted();
+        int verified = count;
+
+        segmentEnd = count == 0 ? 0 : frameEnd(offsets[count - 1], count - 1, false);
+        for (long end = frameEnd(segmentEnd, count, true); end >= 0; end = frameEnd(segmentEnd, count, true)) {
+            addOffset(segmentEnd);
+            segmentEnd = end;
+        }
+
+        if (segment.size() > segmentEnd) {
+            segment.truncate(segmentEnd);
+        }
+        if (count != indexed || index.size() != (long) indexed * Long.BYTES) {
+            index.truncate((long) verified * Long.BYTES);
+            for (int id = verified; id < count; id++) {
+                writeIndexEntry(id, offsets[id]);
+            }
+        }
+        force();
+    }
+
+    // Loads the index and leaves out entries at its end whose frames are not complete; returns how many entries
+    // the index file holds.
+    private int readCommitted() throws IOException {
+        long indexSize = index.size() / Long.BYTES;
+        if (indexSize > MAX_RECORDS) {
+            throw new IOException("The maze store index is too large");
+        }
+        int indexed = (int) indexSize;
+        long[] entries = new long[Math.max(16, indexed)];
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_READ_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int read = 0; read < indexed; ) {
+            buffer.clear().limit(Math.min(INDEX_READ_BYTES, (indexed - read) * Long.BYTES));
+            while (buffer.hasRemaining()) {
+                if (index.read(buffer, (long) read * Long.BYTES + buffer.position()) < 0) {
+                    throw new EOFException("Truncated maze store index");
+                }
+            }
+            int chunk = buffer.flip().remaining() / Long.BYTES;
+            buffer.asLongBuffer().get(entries, read, chunk);
+            read += chunk;
+        }
+
+        int committed = indexed;
+        while (committed > 0 && frameEnd(entries[committed - 1], committed - 1, false) < 0) {
+            committed--;
+        }
+        offsets = entries;
+        count = committed;
+        return indexed;
+    }
+
+    // Where the frame at offset ends, or -1 if there is no complete frame for this id there. Checking the body is
+    // only worth it for frames the index does not vouch for. Every field is range-checked before it is used, so
+    // only I/O failures, which MazeFormat also raises for a malformed record, are taken to mean a torn frame; any
+    // other exception is a bug and is left to propagate rather than truncate good records.
+    private long frameEnd(long offset, long id, boolean checkBody) {
+        try {
+            long segmentSize = segment.size();
+            if (offset < 0 || offset % FRAME_ALIGNMENT != 0 || offset > segmentSize - FRAME_HEADER_BYTES) {
+                return -1;
+            }
+            ByteBuffer fields = read(offset, FRAME_FIELDS_BYTES);
+            if (fields.getInt(0) != FRAME_MAGIC || fields.getLong(8) != id) {
+                return -1;
+            }
+            long mazeLength = fields.getLong(16);
+            long solutionCells = fields.getLong(24);
+            long available = segmentSize - offset - FRAME_HEADER_BYTES - FRAME_TRAILER_BYTES;
+            if (mazeLength <= 0 || mazeLength > available
+                    || solutionCells < 0 || solutionCells > MAX_SOLUTION_CELLS
+                    || solutionCells * 2 * Integer.BYTES > available - mazeLength) {
+                return -1;
+            }
+            long trailerOffset = offset + FRAME_HEADER_BYTES + mazeLength + solutionCells * 2 * Integer.BYTES;
+
+            ByteBuffer trailer = read(trailerOffset, FRAME_TRAILER_BYTES);
+            if (trailer.getInt(4) != COMMIT_MAGIC
+                    || trailer.getInt(0) != frameChecksum(fields, solution(offset, mazeLength, solutionCells))) {
+                return -1;
+            }
+            if (MazeFormat.readHeader(segment, offset + FRAME_HEADER_BYTES).recordLength() != mazeLength) {
+                return -1;
+            }
+            if (checkBody) {
+                try (MazeFile mazeFile = MazeFile.open(segmentPath, offset + FRAME_HEADER_BYTES)) {
+                    if (!mazeFile.verifyChecksum()) {
+                        return -1;
+                    }
+                }
+            }
+            return align(trailerOffset + FRAME_TRAILER_BYTES);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public long append(Maze maze, String algorithm) throws IOException {
+        return append(maze, algorithm, null);
+    }
+
+    // Returns the id of the new record. The solution may be null.
+    public synchronized long append(Maze maze, String algorithm, List<Cell> solution) throws IOException {
+        if (lock == null) {
+            throw new IllegalStateException("The maze store is open read-only");
+        }
+        if (solution != null && solution.size() > MAX_SOLUTION_CELLS) {
+            throw new IllegalArgumentException("The solution is too long to store");
+        }
+        long offset = segmentEnd;
+        long id = count;
+        long mazeLength = MazeFormat.write(segment, offset + FRAME_HEADER_BYTES, maze, algorithm);
+
+        ByteBuffer cells = ByteBuffer.allocate(solution == null ? 0 : solution.size() * 2 * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        if (solution != null) {
+            for (Cell cell : solution) {
+                cells.putInt(cell.row()).putInt(cell.column());
+            }
+        }
+        cells.flip();
+
+        ByteBuffer fields = ByteBuffer.allocate(FRAME_HEADER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(FRAME_MAGIC)
+                .putInt(solution == null ? 0 : HAS_SOLUTION)
+                .putLong(id)
+                .putLong(mazeLength)
+                .putLong(solution == null ? 0 : solution.size())
+                .clear();
+        long solutionOffset = offset + FRAME_HEADER_BYTES + mazeLength;
+        ByteBuffer trailer = ByteBuffer.allocate(FRAME_TRAILER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(frameChecksum(fields.limit(FRAME_FIELDS_BYTES), cells))
+                .putInt(COMMIT_MAGIC)
+                .flip();
+
+        writeFully(segment, fields.clear(), offset);
+        writeFully(segment, cells, solutionOffset);
+        segment.force(false);
+        writeFully(segment, trailer, solutionOffset + cells.capacity());
+
+        segmentEnd = align(solutionOffset + cells.capacity() + FRAME_TRAILER_BYTES);
+        writeIndexEntry(id, offset);
+        addOffset(offset);
+        return id;
+    }
+
+    // Only the writer calls this, from recover or append.
+    private void addOffset(long offset) {
+        int next = count;
+        if (next == offsets.length) {
+            offsets = Arrays.copyOf(offsets, 2 * next);
+        }
+        offsets[next] = offset;
+        count = next + 1;
+    }
+
+    private long offsetOf(long id) {
+        int published = count;
+        return offsets[(int) Objects.checkIndex(id, published)];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // Maps the maze in place; the caller closes the returned file. Safe to call while another thread appends.
+    public MazeFile open(long id) throws IOException {
+        return MazeFile.open(segmentPath, offsetOf(id) + FRAME_HEADER_BYTES);
+    }
+
+    public Maze get(long id) throws IOException {
+        try (MazeFile mazeFile = open(id)) {
+            return mazeFile.toMaze();
+        }
+    }
+
+    public MazeHeader getHeader(long id) throws IOException {
+        return MazeFormat.readHeader(segment, offsetOf(id) + FRAME_HEADER_BYTES);
+    }
+
+    public Optional<List<Cell>> getSolution(long id) throws IOException {
+        long offset = offsetOf(id);
+        ByteBuffer fields = read(offset, FRAME_FIELDS_BYTES);
+        if ((fields.getInt(4) & HAS_SOLUTION) == 0) {
+            return Optional.empty();
+        }
+
+        ByteBuffer cells = solution(offset, fields.getLong(16), fields.getLong(24));
+        List<Cell> solution = new ArrayList<>(cells.remaining() / (2 * Integer.BYTES));
+        while (cells.hasRemaining()) {
+            solution.add(new Cell(cells.getInt(), cells.getInt(), ESCAPE));
+        }
+        return Optional.of(solution);
+    }
+
+    public void force() throws IOException {
+        if (lock != null) {
+            segment.force(false);
+            index.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (lock != null) {
+                force();
+                lock.release();
+            }
+        } finally {
+            segment.close();
+            index.close();
+        }
+    }
+
+    private void writeIndexEntry(long id, long offset) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(offset).flip();
+        writeFully(index, entry, id * Long.BYTES);
+    }
+
+    private ByteBuffer solution(long offset, long mazeLength, long solutionCells) throws IOException {
+        return read(offset + FRAME_HEADER_BYTES + mazeLength, Math.toIntExact(solutionCells * 2 * Integer.BYTES));
+    }
+
+    private static int frameChecksum(ByteBuffer fields, ByteBuffer solution) {
+        CRC32 checksum = new CRC32();
+        checksum.update(fields.duplicate());
+        checksum.update(solution.duplicate());
+        return (int) checksum.getValue();
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (segment.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Truncated maze store record");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + FRAME_ALIGNMENT - 1) / FRAME_ALIGNMENT * FRAME_ALIGNMENT;
+    }
+}
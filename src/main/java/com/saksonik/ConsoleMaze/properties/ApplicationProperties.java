@@ -1,14 +1,26 @@
 package com.saksonik.ConsoleMaze.properties;
 
 import com.saksonik.ConsoleMaze.generation.Generator;
+import com.saksonik.ConsoleMaze.generation.SeededRandoms;
 import com.saksonik.ConsoleMaze.generation.bfs.BFSGenerator;
+import com.saksonik.ConsoleMaze.generation.binaryTree.BinaryTreeGenerator;
+import com.saksonik.ConsoleMaze.generation.boruvka.BoruvkaGenerator;
 import com.saksonik.ConsoleMaze.generation.dfs.DFSGenerator;
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.generation.huntAndKill.HuntAndKillGenerator;
 import com.saksonik.ConsoleMaze.generation.kruskal.KruskalGenerator;
+import com.saksonik.ConsoleMaze.generation.kruskal.PermutationKruskalGenerator;
+import com.saksonik.ConsoleMaze.generation.prim.PrimGenerator;
+import com.saksonik.ConsoleMaze.generation.recursiveDivision.RecursiveDivisionGenerator;
+import com.saksonik.ConsoleMaze.generation.sidewinder.SidewinderGenerator;
+import com.saksonik.ConsoleMaze.generation.tiled.TiledGenerator;
+import com.saksonik.ConsoleMaze.generation.wilson.WilsonGenerator;
+import com.saksonik.ConsoleMaze.model.Maze;
 import com.saksonik.ConsoleMaze.solving.Solver;
 import com.saksonik.ConsoleMaze.solving.aStar.AStarSolver;
 import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
 import com.saksonik.ConsoleMaze.solving.dfs.DFSSolver;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class ApplicationProperties {
     public static final String WALL_STRING = "██";
@@ -24,10 +36,13 @@ public class ApplicationProperties {
     public static final String FAREWELL_MESSAGE = "Bye!";
     public static final String MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE = "Both the height and the width "
             + "of the maze must be at least 3";
+    public static final String MAZE_TOO_LARGE_EXCEPTION_MESSAGE = "The maze has more than "
+            + Integer.MAX_VALUE + " cells, use LargeMaze instead";
     public static final String INVALID_MAZE_SIZE_MESSAGE = "Cannot generate a maze. Invalid size. Please try again";
     public static final String INVALID_NUMBER_INPUT_MESSAGE = "Incorrect option. Please try again";
     public static final int[][] DELTAS = {{-1, 0}, {0, -1}, {0, 1}, {1, 0}};
     public static final int SIZE_LOWER_BOUND = 3;
+    public static final int TILE_SIZE = 64;
 
     private ApplicationProperties() {
     }
@@ -35,15 +50,41 @@ public class ApplicationProperties {
     public enum GenerationAlgorithm {
         Kruskal,
         DFS,
-        BFS;
+        BFS,
+        PermutationKruskal,
+        Boruvka,
+        Eller,
+        BinaryTree,
+        Sidewinder,
+        TiledDFS,
+        RecursiveDivision,
+        Wilson,
+        Prim,
+        HuntAndKill;
 
-        public Generator getGenerator(Random random) {
+        public Generator getGenerator(RandomGenerator random) {
             return switch (this) {
                 case Kruskal -> new KruskalGenerator(random);
                 case DFS -> new DFSGenerator(random);
                 case BFS -> new BFSGenerator(random);
+                case PermutationKruskal -> new PermutationKruskalGenerator(random);
+                case Boruvka -> new BoruvkaGenerator(random);
+                case Eller -> new EllerGenerator(random);
+                case BinaryTree -> new BinaryTreeGenerator(random);
+                case Sidewinder -> new SidewinderGenerator(random);
+                case TiledDFS -> new TiledGenerator(DFSGenerator::new, TILE_SIZE, random);
+                case RecursiveDivision -> new RecursiveDivisionGenerator(random);
+                case Wilson -> new WilsonGenerator(random);
+                case Prim -> new PrimGenerator(random);
+                case HuntAndKill -> new HuntAndKillGenerator(random);
             };
         }
+
+        public Maze generate(int height, int width, long seed) {
+            Maze maze = getGenerator(SeededRandoms.create(seed)).generate(height, width);
+            maze.setSeed(seed);
+            return maze;
+        }
     }
 
     public enum SolvingAlgorithm {
@@ -1,9 +1,9 @@
 package com.saksonik.ConsoleMaze.solving;
 
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
 import java.util.List;
 
 public interface Solver {
-    List<Cell> solve(Maze maze, Cell entrance, Cell exit);
+    List<Cell> solve(WallGrid maze, Cell entrance, Cell exit);
 }
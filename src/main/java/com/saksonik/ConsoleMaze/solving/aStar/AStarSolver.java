@@ -1,7 +1,7 @@
 package com.saksonik.ConsoleMaze.solving.aStar;
 
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
 import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
 import com.saksonik.ConsoleMaze.solving.Solver;
 import java.util.Collections;
@@ -28,24 +28,22 @@ public class AStarSolver implements Solver {
     }
 
     @Override
-    public List<Cell> solve(Maze maze, Cell entrance, Cell exit) {
-        Cell[][] mazeGrid = maze.getGrid();
-
-        this.height = mazeGrid.length;
-        this.width = mazeGrid[0].length;
+    public List<Cell> solve(WallGrid maze, Cell entrance, Cell exit) {
+        this.height = maze.getHeight();
+        this.width = maze.getWidth();
         this.grid = new Node[height][width];
 
         this.start = new Node(entrance.row(), entrance.column(), false);
         this.end = new Node(exit.row(), exit.column(), false);
 
-        createNodes(mazeGrid);
+        createNodes(maze);
         return findPath();
     }
 
-    private void createNodes(Cell[][] mazeGrid) {
+    private void createNodes(WallGrid maze) {
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                Node node = new Node(i, j, mazeGrid[i][j].isWall());
+                Node node = new Node(i, j, maze.isWall(i, j));
                 node.calcHeuristicTo(end);
 
                 this.grid[i][j] = node;
@@ -1,8 +1,8 @@
 package com.saksonik.ConsoleMaze.solving.dfs;
 
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Maze;
 import com.saksonik.ConsoleMaze.model.Node;
+import com.saksonik.ConsoleMaze.model.WallGrid;
 import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
 import com.saksonik.ConsoleMaze.solving.Solver;
 import java.util.ArrayDeque;
@@ -29,12 +29,10 @@ public class DFSSolver implements Solver {
     }
 
     @Override
-    public List<Cell> solve(Maze maze, Cell entrance, Cell exit) {
-        Cell[][] mazeGrid = maze.getGrid();
-
-        this.height = mazeGrid.length;
-        this.width = mazeGrid[0].length;
-        grid = Node.createGridOfNodes(mazeGrid);
+    public List<Cell> solve(WallGrid maze, Cell entrance, Cell exit) {
+        this.height = maze.getHeight();
+        this.width = maze.getWidth();
+        grid = Node.createGridOfNodes(maze);
 
         this.start = new Node(entrance.row(), entrance.column(), false);
         this.end = new Node(exit.row(), exit.column(), false);
@@ -0,0 +1,61 @@
+package com.saksonik.ConsoleMaze.solving.wallFollower;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A stack of grid steps packed two bits per step into fixed-size segments, so a path can outgrow any single array.
+public class DirectionPath {
+    public static final int UP = 0;
+    public static final int RIGHT = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 3;
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_WORDS = 1 << SEGMENT_SHIFT;
+    private static final int STEPS_PER_WORD = Long.SIZE / 2;
+    private final List<long[]> segments = new ArrayList<>();
+    private long length;
+
+    public static long rowDelta(int direction) {
+        return direction == UP ? -1 : direction == DOWN ? 1 : 0;
+    }
+
+    public static long columnDelta(int direction) {
+        return direction == LEFT ? -1 : direction == RIGHT ? 1 : 0;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public int direction(long step) {
+        if (step < 0 || step >= length) {
+            throw new IndexOutOfBoundsException(step);
+        }
+
+        long word = step / STEPS_PER_WORD;
+        int shift = (int) (step % STEPS_PER_WORD) * 2;
+        return (int) (segments.get((int) (word >>> SEGMENT_SHIFT))[(int) word & (SEGMENT_WORDS - 1)] >>> shift) & 3;
+    }
+
+    int last() {
+        return direction(length - 1);
+    }
+
+    void push(int direction) {
+        long word = length / STEPS_PER_WORD;
+        int shift = (int) (length % STEPS_PER_WORD) * 2;
+
+        if ((word >>> SEGMENT_SHIFT) == segments.size()) {
+            segments.add(new long[SEGMENT_WORDS]);
+        }
+
+        long[] segment = segments.get((int) (word >>> SEGMENT_SHIFT));
+        int index = (int) word & (SEGMENT_WORDS - 1);
+        segment[index] = segment[index] & ~(3L << shift) | (long) direction << shift;
+        length++;
+    }
+
+    void pop() {
+        length--;
+    }
+}
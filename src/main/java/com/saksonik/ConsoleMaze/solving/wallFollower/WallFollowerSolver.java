@@ -0,0 +1,45 @@
+package com.saksonik.ConsoleMaze.solving.wallFollower;
+
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+
+public class WallFollowerSolver {
+    // Follows the right-hand wall from the entrance. A step straight back over the last recorded step cancels it,
+    // so in a perfect maze the recorded steps are exactly the simple path to the exit, and the only memory used
+    // is two bits per step of that path.
+    public DirectionPath solve(LargeMaze maze) {
+        DirectionPath path = new DirectionPath();
+        long row = maze.getEntranceRow();
+        long column = maze.getEntranceColumn();
+        int direction = DirectionPath.DOWN;
+
+        while (row != maze.getExitRow() || column != maze.getExitColumn()) {
+            direction = nextDirection(maze, row, column, direction);
+            row += DirectionPath.rowDelta(direction);
+            column += DirectionPath.columnDelta(direction);
+
+            if (path.length() > 0 && path.last() == (direction + 2 & 3)) {
+                path.pop();
+            } else {
+                path.push(direction);
+            }
+        }
+        return path;
+    }
+
+    private int nextDirection(LargeMaze maze, long row, long column, int direction) {
+        for (int turn = 1; turn >= -2; turn--) {
+            int candidate = direction + turn & 3;
+
+            if (isOpen(maze, row + DirectionPath.rowDelta(candidate), column + DirectionPath.columnDelta(candidate))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("The entrance is walled in");
+    }
+
+    private boolean isOpen(LargeMaze maze, long row, long column) {
+        return row >= 0 && row < maze.getHeight()
+                && column >= 0 && column < maze.getWidth()
+                && !maze.isWall(row, column);
+    }
+}
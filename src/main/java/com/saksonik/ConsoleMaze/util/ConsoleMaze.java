@@ -1,6 +1,5 @@
 package com.saksonik.ConsoleMaze.util;
 
-import com.saksonik.ConsoleMaze.generation.Generator;
 import com.saksonik.ConsoleMaze.model.Cell;
 import com.saksonik.ConsoleMaze.model.Maze;
 import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
@@ -10,25 +9,28 @@ import com.saksonik.ConsoleMaze.view.console.ConsoleRenderer;
 import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class ConsoleMaze {
     private static final String NUMBER_REGEX = "^\\d+$";
     private final Scanner scanner;
-    private final Random generationRandom;
+    private final RandomGenerator generationRandom;
     private final Renderer renderer = new ConsoleRenderer();
     private Maze maze;
     private List<Cell> path;
-    private Generator generator;
+    private ApplicationProperties.GenerationAlgorithm generationAlgorithm;
     private Solver solver;
 
+    // Without an explicit random generator every maze is built from a fresh seed, which is recorded on the maze
+    // so it can be regenerated.
     public ConsoleMaze() {
         scanner = new Scanner(System.in);
-        generationRandom = new Random();
+        generationRandom = null;
     }
 
-    public ConsoleMaze(Scanner scanner, Random generationRandom) {
+    public ConsoleMaze(Scanner scanner, RandomGenerator generationRandom) {
         this.scanner = scanner;
         this.generationRandom = generationRandom;
     }
@@ -143,10 +145,9 @@ public class ConsoleMaze {
     }
 
     private void setGenerator(List<Integer> choice) {
-        generator = ApplicationProperties
+        generationAlgorithm = ApplicationProperties
                 .GenerationAlgorithm
-                .values()[choice.get(0) - 1]
-                .getGenerator(generationRandom);
+                .values()[choice.get(0) - 1];
     }
 
     private void setSolver(List<Integer> choice) {
@@ -157,7 +158,11 @@ public class ConsoleMaze {
     }
 
     private void generateTheMaze(List<Integer> params) {
-        maze = generator.generate(params.get(0), params.get(1));
+        if (generationRandom == null) {
+            maze = generationAlgorithm.generate(params.get(0), params.get(1), ThreadLocalRandom.current().nextLong());
+        } else {
+            maze = generationAlgorithm.getGenerator(generationRandom).generate(params.get(0), params.get(1));
+        }
     }
 
     private void solveTheMaze() {
@@ -1,11 +1,11 @@
 package com.saksonik.ConsoleMaze.view;
 
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
 import java.util.List;
 
 public interface Renderer {
-    String render(Maze maze);
+    String render(WallGrid maze);
 
-    String render(Maze maze, List<Cell> path);
+    String render(WallGrid maze, List<Cell> path);
 }
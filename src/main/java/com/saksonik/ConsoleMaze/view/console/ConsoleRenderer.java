@@ -1,31 +1,39 @@
 package com.saksonik.ConsoleMaze.view.console;
 
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
 import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
 import com.saksonik.ConsoleMaze.view.Renderer;
+import java.util.BitSet;
 import java.util.List;
 
 public class ConsoleRenderer implements Renderer {
     @Override
-    public String render(Maze maze) {
-        return mazeToString(maze, false);
+    public String render(WallGrid maze) {
+        return mazeToString(maze, new BitSet(), false);
     }
 
+    // The path is overlaid while rendering rather than written into the maze, so read-only grids can be rendered.
     @Override
-    public String render(Maze maze, List<Cell> path) {
-        maze.putCells(path);
-        return mazeToString(maze, true);
+    public String render(WallGrid maze, List<Cell> path) {
+        BitSet escapes = new BitSet();
+
+        for (Cell cell : path) {
+            if (cell.type() == Cell.Type.ESCAPE) {
+                escapes.set(cell.row() * maze.getWidth() + cell.column());
+            }
+        }
+        return mazeToString(maze, escapes, true);
     }
 
-    private String mazeToString(Maze maze, boolean showEscape) {
+    private String mazeToString(WallGrid maze, BitSet escapes, boolean showEscape) {
         StringBuilder sb = new StringBuilder();
 
-        for (Cell[] row : maze.getGrid()) {
-            for (Cell cell : row) {
-                if (cell.isWall()) {
+        for (int i = 0; i < maze.getHeight(); i++) {
+            for (int j = 0; j < maze.getWidth(); j++) {
+                if (maze.isWall(i, j)) {
                     sb.append(ApplicationProperties.WALL_STRING);
-                } else if (showEscape && cell.isEscape()) {
+                } else if (showEscape && (escapes.get(i * maze.getWidth() + j) || maze.isEscape(i, j))) {
                     sb.append(ApplicationProperties.PATH_STRING);
                 } else {
                     sb.append(ApplicationProperties.PASSAGE_STRING);
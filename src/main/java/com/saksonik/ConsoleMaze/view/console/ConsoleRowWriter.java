@@ -0,0 +1,32 @@
+package com.saksonik.ConsoleMaze.view.console;
+
+import com.saksonik.ConsoleMaze.generation.RowSink;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class ConsoleRowWriter implements RowSink {
+    private final Appendable out;
+    private final int width;
+
+    public ConsoleRowWriter(Appendable out, int width) {
+        this.out = out;
+        this.width = width;
+    }
+
+    @Override
+    public void accept(long row, long[] walls) {
+        try {
+            for (int j = 0; j < width; j++) {
+                if ((walls[j >>> 6] & 1L << j) != 0) {
+                    out.append(ApplicationProperties.WALL_STRING);
+                } else {
+                    out.append(ApplicationProperties.PASSAGE_STRING);
+                }
+            }
+            out.append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
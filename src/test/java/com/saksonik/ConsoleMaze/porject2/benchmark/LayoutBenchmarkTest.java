@@ -0,0 +1,100 @@
+package com.saksonik.ConsoleMaze.porject2.benchmark;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compares the row-major and tiled Maze layouts on wide grids. Excluded from the default test run; run it with
+//   mvn test -Pbenchmark -Dbenchmark.height=20001 -Dbenchmark.width=40001
+// Both walks read the same walls. Timings are wall-clock, best of several rounds after a warm-up round, printed
+// to standard output.
+@Tag("benchmark")
+public class LayoutBenchmarkTest {
+    private static final int[][] DELTAS = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+    private static final int ROUNDS = 5;
+    private static Maze rowMajor;
+    private static Maze tiled;
+
+    @BeforeAll
+    static void generate() {
+        int height = Integer.getInteger("benchmark.height", 10_001);
+        int width = Integer.getInteger("benchmark.width", 20_001);
+
+        rowMajor = new EllerGenerator(new Random(1)).generate(height, width);
+        tiled = rowMajor.withLayout(Maze.Layout.TILED);
+    }
+
+    @Test
+    @DisplayName("Обход по столбцам в построчной и блочной раскладке")
+    void columnSweep() {
+        compare("column sweep", LayoutBenchmarkTest::sweepColumns);
+    }
+
+    @Test
+    @DisplayName("Обход по правилу правой руки в построчной и блочной раскладке")
+    void wallFollower() {
+        compare("wall follower", LayoutBenchmarkTest::followWall);
+    }
+
+    private static void compare(String name, ToLongFunction<Maze> walk) {
+        assertEquals(walk.applyAsLong(rowMajor), walk.applyAsLong(tiled));
+
+        for (Maze maze : new Maze[] {rowMajor, tiled}) {
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                walk.applyAsLong(maze);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf(
+                    "%s %dx%d %-9s %8.1f ms%n",
+                    name, maze.getHeight(), maze.getWidth(), maze.getLayout(), best / 1e6
+            );
+        }
+    }
+
+    private static long sweepColumns(Maze maze) {
+        long walls = 0;
+
+        for (int j = 0; j < maze.getWidth(); j++) {
+            for (int i = 0; i < maze.getHeight(); i++) {
+                if (maze.isWall(i, j)) {
+                    walls++;
+                }
+            }
+        }
+        return walls;
+    }
+
+    private static long followWall(Maze maze) {
+        int row = maze.getEntrance().row();
+        int column = maze.getEntrance().column();
+        int direction = 2;
+        long steps = 0;
+
+        while (row != maze.getExit().row() || column != maze.getExit().column()) {
+            for (int turn = 1; turn >= -2; turn--) {
+                int candidate = direction + turn & 3;
+                int nextRow = row + DELTAS[candidate][0];
+                int nextColumn = column + DELTAS[candidate][1];
+
+                if (nextRow >= 0 && nextRow < maze.getHeight() && !maze.isWall(nextRow, nextColumn)) {
+                    direction = candidate;
+                    row = nextRow;
+                    column = nextColumn;
+                    break;
+                }
+            }
+            steps++;
+        }
+        return steps;
+    }
+}
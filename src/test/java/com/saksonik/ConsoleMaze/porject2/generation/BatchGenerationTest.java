@@ -0,0 +1,90 @@
+package com.saksonik.ConsoleMaze.porject2.generation;
+
+import com.saksonik.ConsoleMaze.generation.batch.BatchGenerator;
+import com.saksonik.ConsoleMaze.generation.batch.GeneratedMaze;
+import com.saksonik.ConsoleMaze.generation.batch.MazeSpec;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchGenerationTest {
+    private static List<MazeSpec> createSpecs() {
+        List<MazeSpec> specs = new ArrayList<>();
+
+        for (ApplicationProperties.GenerationAlgorithm algorithm : ApplicationProperties.GenerationAlgorithm.values()) {
+            for (long seed = 0; seed < 5; seed++) {
+                specs.add(new MazeSpec(algorithm, 21 + (int) seed, 31, seed));
+            }
+        }
+        return specs;
+    }
+
+    @Test
+    @DisplayName("Пакетная генерация лабиринтов на виртуальных потоках")
+    void batchGeneration() {
+        List<MazeSpec> specs = createSpecs();
+        List<GeneratedMaze> results = new BatchGenerator().generate(specs).toList();
+
+        assertEquals(Set.copyOf(specs), results.stream().map(GeneratedMaze::spec).collect(Collectors.toSet()));
+        for (GeneratedMaze result : results) {
+            MazeSpec spec = result.spec();
+            assertEquals(spec.algorithm().generate(spec.height(), spec.width(), spec.seed()), result.maze());
+        }
+    }
+
+    @Test
+    @DisplayName("Пакетная генерация лабиринтов на ограниченном пуле")
+    void boundedBatchGeneration() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            List<MazeSpec> specs = createSpecs();
+            assertEquals(specs.size(), new BatchGenerator(executor).generate(specs).toList().size());
+
+            List<MazeSpec> invalidSpecs = List.of(new MazeSpec(ApplicationProperties.GenerationAlgorithm.DFS, 2, 3, 0));
+            assertThatThrownBy(() -> new BatchGenerator(executor).generate(invalidSpecs).toList())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Отмена оставшихся задач при закрытии потока и при ошибке")
+    void cancelRemainingTasks() {
+        List<MazeSpec> specs = createSpecs();
+        List<Runnable> queued = new ArrayList<>();
+
+        new BatchGenerator(queued::add).generate(specs).close();
+        assertEquals(specs.size(), queued.size());
+        for (Runnable task : queued) {
+            assertTrue(((Future<?>) task).isCancelled());
+        }
+
+        queued.clear();
+        List<MazeSpec> failingSpecs = new ArrayList<>();
+        failingSpecs.add(new MazeSpec(ApplicationProperties.GenerationAlgorithm.DFS, 2, 3, 0));
+        failingSpecs.addAll(specs);
+        Stream<GeneratedMaze> results = new BatchGenerator(queued::add).generate(failingSpecs);
+
+        queued.get(0).run();
+        assertThatThrownBy(results::toList).isInstanceOf(IllegalArgumentException.class);
+        for (Runnable task : queued.subList(1, queued.size())) {
+            assertTrue(((Future<?>) task).isCancelled());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.saksonik.ConsoleMaze.porject2.generation;
+
+import com.saksonik.ConsoleMaze.generation.infinite.InfiniteMaze;
+import com.saksonik.ConsoleMaze.generation.kruskal.KruskalGenerator;
+import com.saksonik.ConsoleMaze.model.Maze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InfiniteMazeTest {
+    private static int countPassagesBetweenCells(Maze maze) {
+        int passages = 0;
+
+        for (int i = 1; i < maze.getHeight() - 1; i++) {
+            for (int j = 1; j < maze.getWidth() - 1; j++) {
+                if ((i + j) % 2 == 1 && !maze.isWall(i, j)) {
+                    passages++;
+                }
+            }
+        }
+        return passages;
+    }
+
+    private static int countReachableCells(Maze maze) {
+        boolean[][] visited = new boolean[maze.getHeight()][maze.getWidth()];
+        Deque<int[]> stack = new ArrayDeque<>();
+        int reachable = 0;
+
+        stack.push(new int[] {1, 1});
+        visited[1][1] = true;
+        while (!stack.isEmpty()) {
+            int[] cur = stack.pop();
+            if (cur[0] % 2 == 1 && cur[1] % 2 == 1) {
+                reachable++;
+            }
+
+            for (int[] delta : new int[][] {{-1, 0}, {0, -1}, {1, 0}, {0, 1}}) {
+                int row = cur[0] + delta[0];
+                int column = cur[1] + delta[1];
+
+                if (row > 0 && column > 0 && row < maze.getHeight() - 1 && column < maze.getWidth() - 1
+                        && !visited[row][column] && !maze.isWall(row, column)) {
+                    visited[row][column] = true;
+                    stack.push(new int[] {row, column});
+                }
+            }
+        }
+        return reachable;
+    }
+
+    @Test
+    @DisplayName("Бесконечный лабиринт остаётся идеальным на стыках чанков")
+    void infiniteMazeIsPerfect() {
+        InfiniteMaze infiniteMaze = new InfiniteMaze(42, 8, 4, KruskalGenerator::new);
+        Maze window = infiniteMaze.window(0, 0, 2 * 8 * 5 + 1, 2 * 8 * 7 + 1);
+        int cellCount = 8 * 5 * 8 * 7;
+
+        assertEquals(cellCount - 1, countPassagesBetweenCells(window));
+        assertEquals(cellCount, countReachableCells(window));
+        assertTrue(infiniteMaze.getCachedChunkCount() <= 4);
+    }
+
+    @Test
+    @DisplayName("Чанки бесконечного лабиринта воспроизводимы после вытеснения из кэша")
+    void infiniteMazeIsReproducible() {
+        InfiniteMaze smallCache = new InfiniteMaze(7, 16, 1, KruskalGenerator::new);
+        InfiniteMaze largeCache = new InfiniteMaze(7, 16, 1024, KruskalGenerator::new);
+        long far = 1_000_000_000_000L;
+
+        assertEquals(largeCache.window(far, far, 101, 101), smallCache.window(far, far, 101, 101));
+        assertEquals(largeCache.window(0, far, 51, 51), smallCache.window(0, far, 51, 51));
+        assertNotEquals(
+                new InfiniteMaze(8).window(far, far, 101, 101),
+                new InfiniteMaze(7).window(far, far, 101, 101)
+        );
+        assertEquals(1, smallCache.getCachedChunkCount());
+        assertTrue(smallCache.isWall(-1, 5));
+        assertTrue(smallCache.isWall(2 * far, 2 * far));
+    }
+
+    @Test
+    @DisplayName("Создание бесконечного лабиринта с невалидными параметрами")
+    void infiniteMazeInvalidParameters() {
+        assertThatThrownBy(() -> new InfiniteMaze(0, 0, 16, KruskalGenerator::new))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> new InfiniteMaze(0, 16, 0, KruskalGenerator::new))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
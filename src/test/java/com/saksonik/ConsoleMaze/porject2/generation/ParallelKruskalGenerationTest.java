@@ -0,0 +1,61 @@
+package com.saksonik.ConsoleMaze.porject2.generation;
+
+import com.saksonik.ConsoleMaze.generation.kruskal.KruskalGenerator;
+import com.saksonik.ConsoleMaze.generation.kruskal.ParallelKruskalGenerator;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelKruskalGenerationTest {
+    @Test
+    @DisplayName("Совпадение параллельного Kruskal с последовательным")
+    void parallelKruskalMatchesSequential() {
+        int[][] sizes = {{5, 5}, {20, 20}, {35, 35}, {4, 5}, {10, 20}, {25, 45}, {301, 257}};
+
+        for (int[] size : sizes) {
+            assertEquals(
+                    new KruskalGenerator(new Random(5)).generate(size[0], size[1]),
+                    new ParallelKruskalGenerator(new Random(5)).generate(size[0], size[1])
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Независимость параллельного Kruskal от числа потоков")
+    void parallelKruskalIsReproducible() {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+
+        try {
+            assertEquals(
+                    new ParallelKruskalGenerator(new Random(7), singleThread).generate(401, 401),
+                    new ParallelKruskalGenerator(new Random(7), fourThreads).generate(401, 401)
+            );
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Генерация невалидных лабиринтов параллельным алгоритмом Kruskal")
+    void parallelKruskalInvalidGeneration() {
+        assertThatThrownBy(() -> new ParallelKruskalGenerator(new Random()).generate(2, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new ParallelKruskalGenerator(new Random()).generate(-2, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new ParallelKruskalGenerator(new Random()).generate(12, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+    }
+}
@@ -0,0 +1,146 @@
+package com.saksonik.ConsoleMaze.porject2.generation;
+
+import com.saksonik.ConsoleMaze.generation.recursiveDivision.RecursiveDivisionGenerator;
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RecursiveDivisionGenerationTest {
+    private static String deleteEverySecondCharacter(String str) {
+        StringBuilder sb = new StringBuilder(str);
+        for (int i = 1; i < sb.length(); i++) {
+            sb.deleteCharAt(i);
+        }
+        return sb.toString();
+    }
+
+    static Cell[][] generateGridByString(String maze, int height, int width) {
+        String[] splits = maze.split("\n");
+        char passageChar = ApplicationProperties.PASSAGE_STRING.charAt(0);
+        Cell[][] grid = new Cell[height][width];
+
+        for (int i = 0; i < splits.length; i++) {
+            String row = deleteEverySecondCharacter(splits[i]);
+
+            for (int j = 0; j < row.length(); j++) {
+                if (row.charAt(j) == passageChar) {
+                    grid[i][j] = new Cell(i, j, Cell.Type.PASSAGE);
+                } else {
+                    grid[i][j] = new Cell(i, j, Cell.Type.WALL);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    @DisplayName("Генерация валидных квадратных лабиринтов алгоритмом RecursiveDivision")
+    void recursiveDivisionSquareGeneration() {
+        assertEquals(
+                new Maze(generateGridByString("""
+                        ██  ██████
+                        ██      ██
+                        ██  ██████
+                        ██      ██
+                        ██████  ██""", 5, 5)),
+                new RecursiveDivisionGenerator(new Random(5)).generate(5, 5)
+        );
+
+        assertEquals(
+                new Maze(generateGridByString("""
+                        ██  ████████████████████████████████████
+                        ██  ██      ██  ██  ██      ██  ██  ████
+                        ██  ██  ██  ██  ██  ██  ██  ██  ██  ████
+                        ██  ██  ██      ██      ██      ██  ████
+                        ██  ██  ██████████████████████  ██  ████
+                        ██      ██      ██                  ████
+                        ██  ██  ██  ██  ██████████  ██████  ████
+                        ██  ██      ██  ██              ██  ████
+                        ██████  ██████████  ██████████████  ████
+                        ██              ██  ██  ██      ██  ████
+                        ██████  ██████████  ██  ██  ██  ██  ████
+                        ██      ██      ██  ██      ██  ██  ████
+                        ██  ██  ██  ██████  ██  ██████████  ████
+                        ██  ██                          ██  ████
+                        ██████  ██████████  ██  ██  ██████  ████
+                        ██              ██  ██  ██      ██  ████
+                        ██████████  ████████████████████████████
+                        ██                                  ████
+                        ██████████████████████████████████  ████
+                        ██████████████████████████████████  ████""", 20, 20)),
+                new RecursiveDivisionGenerator(new Random(5)).generate(20, 20)
+        );
+    }
+
+    @Test
+    @DisplayName("Генерация валидных прямоугольных лабиринтов алгоритмом RecursiveDivision")
+    void recursiveDivisionRectangleGeneration() {
+        assertEquals(
+                new Maze(generateGridByString("""
+                        ██  ██████
+                        ██      ██
+                        ██████  ██
+                        ██████  ██""", 4, 5)),
+                new RecursiveDivisionGenerator(new Random(5)).generate(4, 5)
+        );
+
+        assertEquals(
+                new Maze(generateGridByString("""
+                        ██  ████████████████████████████████████
+                        ██          ██      ██              ████
+                        ██  ██  ██  ██  ██████████████████  ████
+                        ██  ██  ██  ██      ██              ████
+                        ██  ██████████  ██████  ██████  ██  ████
+                        ██  ██              ██  ██      ██  ████
+                        ██  ██  ██  ██████  ██  ██  ████████████
+                        ██      ██  ██          ██          ████
+                        ██████████████████████████████████  ████
+                        ██████████████████████████████████  ████""", 10, 20)),
+                new RecursiveDivisionGenerator(new Random(5)).generate(10, 20)
+        );
+    }
+
+    @Test
+    @DisplayName("Независимость RecursiveDivision от числа потоков и порога")
+    void recursiveDivisionIsReproducible() {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+
+        try {
+            assertEquals(
+                    new RecursiveDivisionGenerator(new Random(7), singleThread, Integer.MAX_VALUE).generate(401, 401),
+                    new RecursiveDivisionGenerator(new Random(7), fourThreads, 1).generate(401, 401)
+            );
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Генерация невалидных лабиринтов алгоритмом RecursiveDivision")
+    void recursiveDivisionInvalidGeneration() {
+        assertThatThrownBy(() -> new RecursiveDivisionGenerator(new Random()).generate(2, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new RecursiveDivisionGenerator(new Random()).generate(-2, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new RecursiveDivisionGenerator(new Random()).generate(12, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new RecursiveDivisionGenerator(new Random(), ForkJoinPool.commonPool(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
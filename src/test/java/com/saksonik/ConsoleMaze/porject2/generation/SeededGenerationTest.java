@@ -0,0 +1,25 @@
+package com.saksonik.ConsoleMaze.porject2.generation;
+
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class SeededGenerationTest {
+    @Test
+    @DisplayName("Повторная генерация лабиринтов по зерну")
+    void regenerateBySeed() {
+        for (ApplicationProperties.GenerationAlgorithm algorithm : ApplicationProperties.GenerationAlgorithm.values()) {
+            Maze maze = algorithm.generate(41, 61, 42);
+
+            assertEquals(OptionalLong.of(42), maze.getSeed());
+            assertEquals(maze, algorithm.generate(41, 61, 42));
+            assertNotEquals(maze, algorithm.generate(41, 61, 43));
+        }
+    }
+}
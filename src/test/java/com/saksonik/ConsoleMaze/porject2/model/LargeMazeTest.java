@@ -0,0 +1,84 @@
+package com.saksonik.ConsoleMaze.porject2.model;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.SegmentedBitStorage;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LargeMazeTest {
+    private static void assertSameWalls(Maze expected, LargeMaze actual) {
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getWidth(), actual.getWidth());
+
+        for (int i = 0; i < expected.getHeight(); i++) {
+            for (int j = 0; j < expected.getWidth(); j++) {
+                assertEquals(expected.isWall(i, j), actual.isWall(i, j));
+            }
+        }
+        assertEquals(expected.getExit().row(), actual.getExitRow());
+        assertEquals(expected.getExit().column(), actual.getExitColumn());
+    }
+
+    @Test
+    @DisplayName("Создание лабиринта с длинной адресацией")
+    void createLargeMaze() {
+        for (int[] size : new int[][] {{3, 3}, {4, 5}, {10, 20}, {21, 130}, {8, 64}}) {
+            Maze maze = new Maze(size[0], size[1]);
+            LargeMaze largeMaze = new LargeMaze(size[0], size[1]);
+            assertSameWalls(maze, largeMaze);
+
+            maze.carve(0, 1);
+            largeMaze.carve(0, 1);
+            assertSameWalls(maze, largeMaze);
+        }
+    }
+
+    @Test
+    @DisplayName("Потоковая генерация лабиринта с длинной адресацией")
+    void generateLargeMaze() {
+        for (int[] size : new int[][] {{5, 5}, {20, 20}, {4, 5}, {10, 200}}) {
+            assertSameWalls(
+                    new EllerGenerator(new Random(5)).generate(size[0], size[1]),
+                    new EllerGenerator(new Random(5)).generateLarge(size[0], size[1])
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Хранилище битов из нескольких сегментов")
+    void segmentedBitStorage() {
+        SegmentedBitStorage storage = new SegmentedBitStorage((1L << 20) + 3);
+
+        storage.set(64L * (1 << 20) + 5);
+        storage.set(64L * (1 << 20) - 1);
+        assertTrue(storage.get(64L * (1 << 20) + 5));
+        assertTrue(storage.get(64L * (1 << 20) - 1));
+        assertFalse(storage.get(64L * (1 << 20)));
+
+        storage.clear(64L * (1 << 20) + 5);
+        assertFalse(storage.get(64L * (1 << 20) + 5));
+        assertEquals((1L << 20) + 3, storage.wordCount());
+    }
+
+    @Test
+    @DisplayName("Ограничение размера лабиринта с int-адресацией")
+    void mazeTooLarge() {
+        assertThatThrownBy(() -> new Maze(100_001, 100_001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_TOO_LARGE_EXCEPTION_MESSAGE);
+
+        assertThatThrownBy(() -> new LargeMaze(2, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ApplicationProperties.MAZE_ILLEGAL_ARGUMENT_EXCEPTION_MESSAGE);
+    }
+}
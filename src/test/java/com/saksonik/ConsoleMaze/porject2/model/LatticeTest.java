@@ -0,0 +1,70 @@
+package com.saksonik.ConsoleMaze.porject2.model;
+
+import com.saksonik.ConsoleMaze.model.Lattice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LatticeTest {
+    static List<List<Integer>> neighborsOf(Lattice lattice) {
+        List<List<Integer>> neighbors = new ArrayList<>();
+
+        for (int cell = 0; cell < lattice.size(); cell++) {
+            List<Integer> cellNeighbors = new ArrayList<>();
+            for (int i = 0; i < lattice.getNeighborCount(cell); i++) {
+                cellNeighbors.add(lattice.getNeighbor(cell, i));
+            }
+            neighbors.add(cellNeighbors);
+        }
+        return neighbors;
+    }
+
+    @Test
+    @DisplayName("Инициализация Lattice")
+    void initLattice() {
+        assertEquals(
+                List.of(List.of(2, 1), List.of(0, 3), List.of(0, 3), List.of(1, 2)),
+                neighborsOf(new Lattice(2, 2))
+        );
+
+        assertEquals(
+                List.of(
+                        List.of(4, 1), List.of(0, 5, 2), List.of(1, 6, 3), List.of(2, 7),
+                        List.of(0, 8, 5), List.of(1, 4, 9, 6), List.of(2, 5, 10, 7), List.of(3, 6, 11),
+                        List.of(4, 9), List.of(5, 8, 10), List.of(6, 9, 11), List.of(7, 10)
+                ),
+                neighborsOf(new Lattice(4, 3))
+        );
+    }
+
+    @Test
+    @DisplayName("Перемешывание соседей у Lattice")
+    void shuffleNeighbors() {
+        Lattice lattice = new Lattice(5, 4);
+        List<List<Integer>> expected = neighborsOf(lattice);
+
+        Random random = new Random(1);
+        expected.forEach(neighbors -> Collections.shuffle(neighbors, random));
+        lattice.shuffleNeighbors(new Random(1));
+
+        assertEquals(expected, neighborsOf(lattice));
+    }
+
+    @Test
+    @DisplayName("Получение первого непосещенного соседа")
+    void getFirstUnvisitedNeighbor() {
+        Lattice lattice = new Lattice(2, 2);
+
+        lattice.makeVisited(2);
+        assertEquals(1, lattice.getFirstUnvisitedNeighbor(0));
+
+        lattice.makeVisited(1);
+        assertEquals(Lattice.NO_NEIGHBOR, lattice.getFirstUnvisitedNeighbor(0));
+    }
+}
@@ -0,0 +1,47 @@
+package com.saksonik.ConsoleMaze.porject2.model;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.MappedBitStorage;
+import com.saksonik.ConsoleMaze.solving.wallFollower.WallFollowerSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MappedBitStorageTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Генерация лабиринта в файл, отображённый в память, и повторное открытие")
+    void generateIntoMappedFile() throws IOException {
+        Path file = directory.resolve("maze.bits");
+        LargeMaze expected = new EllerGenerator(new Random(3)).generateLarge(301, 257);
+
+        try (MappedBitStorage storage = MappedBitStorage.create(file, LargeMaze.wordCount(301, 257))) {
+            new EllerGenerator(new Random(3)).generateLarge(301, 257, storage);
+        }
+        assertEquals(LargeMaze.wordCount(301, 257) * Long.BYTES, Files.size(file));
+
+        try (MappedBitStorage storage = MappedBitStorage.open(file)) {
+            LargeMaze actual = LargeMaze.wrap(301, 257, storage);
+
+            for (long i = 0; i < expected.getHeight(); i++) {
+                for (long j = 0; j < expected.getWidth(); j++) {
+                    assertEquals(expected.isWall(i, j), actual.isWall(i, j));
+                }
+            }
+            assertEquals(
+                    new WallFollowerSolver().solve(expected).length(),
+                    new WallFollowerSolver().solve(actual).length()
+            );
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.saksonik.ConsoleMaze.porject2.model;
 
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
 import com.saksonik.ConsoleMaze.model.Cell;
-import com.saksonik.ConsoleMaze.model.Edge;
 import com.saksonik.ConsoleMaze.model.Maze;
 import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
 import org.junit.jupiter.api.DisplayName;
@@ -9,8 +9,12 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MazeTest {
     private static String deleteEverySecondCharacter(String str) {
@@ -78,14 +82,14 @@ public class MazeTest {
 
     @Test
     @DisplayName("Наложение проходов на лабиринт")
-    void putSpanningTree() {
+    void carveSpanningTree() {
         Maze actualMaze = new Maze(generateGridByString("""
                 ██  ██████
                 ██  ██  ██
                 ██████████
                 ██  ██  ██
                 ██████  ██""", 5, 5));
-        actualMaze.putSpanningTree(List.of(new Edge(0, 1), new Edge(0, 2), new Edge(2, 3)), 2);
+        actualMaze.carve(new int[]{0, 1, 0, 2, 2, 3}, 3);
         assertArrayEquals(generateGridByString("""
                 ██  ██████
                 ██      ██
@@ -103,10 +107,7 @@ public class MazeTest {
                 ██████████
                 ██  ██  ██
                 ██████  ██""", 9, 5));
-        actualMaze.putSpanningTree(List.of(
-                new Edge(0, 1), new Edge(1, 3), new Edge(3, 2),
-                new Edge(2, 4), new Edge(4, 5), new Edge(4, 6), new Edge(6, 7)
-        ), 2);
+        actualMaze.carve(new int[]{0, 1, 1, 3, 3, 2, 2, 4, 4, 5, 4, 6, 6, 7}, 7);
         assertArrayEquals(generateGridByString("""
                 ██  ██████
                 ██      ██
@@ -124,7 +125,7 @@ public class MazeTest {
                 ██████████
                 ██  ██  ██
                 ██████  ██""", 5, 5));
-        actualMaze.putSpanningTree(Collections.emptyList(), 2);
+        actualMaze.carve(new int[0], 0);
         assertArrayEquals(generateGridByString("""
                 ██  ██████
                 ██  ██  ██
@@ -132,4 +133,83 @@ public class MazeTest {
                 ██  ██  ██
                 ██████  ██""", 5, 5), actualMaze.getGrid());
     }
+
+    @Test
+    @DisplayName("Прорубание проходов между клетками")
+    void carvePassages() {
+        Maze singleCarves = new Maze(9, 5);
+        singleCarves.carve(0, 1);
+        singleCarves.carve(1, 3);
+        singleCarves.carve(3, 2);
+        singleCarves.carve(2, 4);
+
+        Maze batchCarves = new Maze(9, 5);
+        batchCarves.carve(new int[] {0, 1, 1, 3, 3, 2, 2, 4, 4, 5}, 4);
+
+        assertEquals(singleCarves, batchCarves);
+        assertArrayEquals(generateGridByString("""
+                ██  ██████
+                ██      ██
+                ██████  ██
+                ██      ██
+                ██  ██████
+                ██  ██  ██
+                ██████████
+                ██  ██  ██
+                ██████  ██""", 9, 5), batchCarves.getGrid());
+    }
+
+    @Test
+    @DisplayName("Лабиринт с плиточным размещением в памяти")
+    void tiledLayout() {
+        for (int[] size : new int[][] {{3, 3}, {4, 5}, {10, 20}, {17, 130}, {64, 65}}) {
+            Maze rowMajor = new EllerGenerator(new Random(5)).generate(size[0], size[1]);
+            Maze tiled = new Maze(size[0], size[1], Maze.Layout.TILED);
+            new EllerGenerator(new Random(5))
+                    .generate(size[0], size[1], (row, walls) -> tiled.putRow((int) row, walls));
+
+            assertEquals(Maze.Layout.TILED, tiled.getLayout());
+            assertEquals(rowMajor, tiled);
+            assertEquals(tiled, rowMajor);
+            assertEquals(rowMajor.hashCode(), tiled.hashCode());
+            assertArrayEquals(rowMajor.getGrid(), tiled.getGrid());
+            assertEquals(new Maze(size[0], size[1]), new Maze(size[0], size[1], Maze.Layout.TILED));
+
+            Maze converted = rowMajor.withLayout(Maze.Layout.TILED);
+            assertEquals(tiled, converted);
+            converted.carve(0, 1);
+            rowMajor.carve(0, 1);
+            converted.putCells(List.of(new Cell(1, 1, Cell.Type.ESCAPE)));
+            rowMajor.putCells(List.of(new Cell(1, 1, Cell.Type.ESCAPE)));
+            assertEquals(rowMajor, converted.withLayout(Maze.Layout.ROW_MAJOR));
+            assertTrue(converted.isEscape(1, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Чтение клеток из упакованного лабиринта")
+    void readPackedCells() {
+        Cell[][] grid = generateGridByString("""
+                ██  ██████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████
+                ██                                                                                                                                      ██
+                ██████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████████  ██""",
+                3, 69);
+        Maze maze = new Maze(grid);
+
+        assertEquals(3, maze.getHeight());
+        assertEquals(69, maze.getWidth());
+        assertTrue(maze.isWall(0, 0));
+        assertFalse(maze.isWall(0, 1));
+        assertFalse(maze.isWall(1, 64));
+        assertTrue(maze.isWall(1, 68));
+        assertFalse(maze.isWall(2, 67));
+        assertArrayEquals(grid, maze.getGrid());
+
+        maze.putCells(List.of(new Cell(1, 64, Cell.Type.ESCAPE)));
+        assertTrue(maze.isEscape(1, 64));
+        assertEquals(new Cell(1, 64, Cell.Type.ESCAPE), maze.getGrid()[1][64]);
+
+        maze.putCells(List.of(new Cell(1, 64, Cell.Type.PASSAGE)));
+        assertEquals(new Maze(grid), maze);
+    }
 }
@@ -0,0 +1,74 @@
+package com.saksonik.ConsoleMaze.porject2.model;
+
+import com.saksonik.ConsoleMaze.generation.kruskal.KruskalGenerator;
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.SpanningTreeMaze;
+import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
+import com.saksonik.ConsoleMaze.view.console.ConsoleRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SpanningTreeMazeTest {
+    private static final int[][] SIZES = {{3, 3}, {5, 5}, {20, 20}, {4, 5}, {10, 20}, {41, 130}};
+
+    @Test
+    @DisplayName("Преобразование лабиринта в остовное дерево и обратно")
+    void convertSpanningTree() {
+        for (int[] size : SIZES) {
+            Maze maze = new KruskalGenerator(new Random(5)).generate(size[0], size[1]);
+            SpanningTreeMaze tree = SpanningTreeMaze.fromMaze(maze);
+
+            assertEquals(maze, tree.toMaze());
+            assertEquals(maze.getEntrance(), tree.getEntrance());
+            assertEquals(maze.getExit(), tree.getExit());
+            assertEquals(new ConsoleRenderer().render(maze), new ConsoleRenderer().render(tree));
+            for (int i = 0; i < maze.getHeight(); i++) {
+                for (int j = 0; j < maze.getWidth(); j++) {
+                    assertEquals(maze.isWall(i, j), tree.isWall(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Поиск пути в остовном дереве через общего предка")
+    void findPathInSpanningTree() {
+        for (int[] size : SIZES) {
+            Maze maze = new KruskalGenerator(new Random(7)).generate(size[0], size[1]);
+            SpanningTreeMaze tree = SpanningTreeMaze.fromMaze(maze);
+
+            List<Cell> expected = new BFSSolver().solve(maze, maze.getEntrance(), maze.getExit());
+            assertEquals(expected, tree.findPath(tree.getEntrance(), tree.getExit()));
+
+            List<Cell> reversed = new ArrayList<>(expected);
+            Collections.reverse(reversed);
+            assertEquals(reversed, tree.findPath(tree.getExit(), tree.getEntrance()));
+            assertEquals(
+                    new ConsoleRenderer().render(maze, expected),
+                    new ConsoleRenderer().render(tree, tree.findPath(tree.getEntrance(), tree.getExit()))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Преобразование лабиринта с циклом в остовное дерево")
+    void convertMazeWithCycle() {
+        Maze maze = new KruskalGenerator(new Random(5)).generate(5, 5);
+        maze.carve(0, 1);
+        maze.carve(1, 3);
+        maze.carve(0, 2);
+        maze.carve(2, 3);
+
+        assertThatThrownBy(() -> SpanningTreeMaze.fromMaze(maze))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
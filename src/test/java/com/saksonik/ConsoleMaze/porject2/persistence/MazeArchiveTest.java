@@ -0,0 +1,118 @@
+package com.saksonik.ConsoleMaze.porject2.persistence;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.persistence.MazeArchive;
+import com.saksonik.ConsoleMaze.persistence.MazeArchiveWriter;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MazeArchiveTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Потоковая запись лабиринта в сжатый архив")
+    void streamFromGenerator() throws IOException {
+        Path file = directory.resolve("maze.mzar");
+        LargeMaze expected = new EllerGenerator(new Random(9)).generateLarge(2001, 301);
+
+        try (MazeArchiveWriter writer = new MazeArchiveWriter(file, 2001, 301, OptionalLong.of(9), "Eller")) {
+            new EllerGenerator(new Random(9)).generate(2001, 301, writer);
+        }
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            assertEquals(2001, archive.getHeight());
+            assertEquals(301, archive.getWidth());
+            assertEquals(OptionalLong.of(9), archive.getSeed());
+            assertEquals("Eller", archive.getAlgorithm());
+            assertTrue(Files.size(file) < LargeMaze.wordCount(2001, 301) * Long.BYTES * 11 / 20);
+
+            LargeMaze actual = archive.toLargeMaze();
+            for (long i = 0; i < expected.getHeight(); i++) {
+                for (long j = 0; j < expected.getWidth(); j++) {
+                    assertEquals(expected.isWall(i, j), actual.isWall(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Чтение отдельных клеток и окна распаковывает только нужные блоки")
+    void partialReads() throws IOException {
+        Path file = directory.resolve("maze.mzar");
+        Maze maze = ApplicationProperties.GenerationAlgorithm.Kruskal.generate(201, 131, 5);
+
+        try (MazeArchiveWriter writer = new MazeArchiveWriter(
+                file,
+                201,
+                131,
+                maze.getSeed(),
+                "Kruskal",
+                10,
+                Deflater.BEST_SPEED
+        )) {
+            long[] row = new long[3];
+            for (int i = 0; i < maze.getHeight(); i++) {
+                maze.readRow(i, row);
+                writer.accept(i, row);
+            }
+        }
+
+        try (MazeArchive archive = MazeArchive.open(file)) {
+            assertEquals(21, archive.getBlockCount());
+
+            assertEquals(maze.isWall(123, 77), archive.isWall(123, 77));
+            assertEquals(maze.isWall(129, 0), archive.isWall(129, 0));
+            assertEquals(1, archive.getInflatedBlockCount());
+
+            Maze window = archive.window(95, 60, 20, 70);
+            for (int i = 0; i < 20; i++) {
+                for (int j = 0; j < 70; j++) {
+                    assertEquals(maze.isWall(95 + i, 60 + j), window.isWall(i, j));
+                }
+            }
+            assertEquals(4, archive.getInflatedBlockCount());
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> archive.window(95, maze.getWidth() - 60, 20, 70));
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.window(-1, 0, 20, 70));
+
+            assertEquals(maze, archive.toMaze());
+        }
+    }
+
+    @Test
+    @DisplayName("Архив с недостающими строками или обрезанный архив не открывается")
+    void incompleteArchive() throws IOException {
+        Path file = directory.resolve("maze.mzar");
+        Maze maze = ApplicationProperties.GenerationAlgorithm.DFS.generate(21, 21, 1);
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (MazeArchiveWriter writer = new MazeArchiveWriter(file, 21, 21, OptionalLong.empty(), "DFS")) {
+                writer.accept(0, new long[1]);
+            }
+        });
+        assertThrows(IOException.class, () -> MazeArchive.open(file));
+
+        MazeArchiveWriter.write(file, maze, "DFS");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+        assertThrows(IOException.class, () -> MazeArchive.open(file));
+    }
+}
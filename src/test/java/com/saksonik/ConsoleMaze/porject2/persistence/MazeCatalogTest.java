@@ -0,0 +1,168 @@
+package com.saksonik.ConsoleMaze.porject2.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.persistence.MazeCatalog;
+import com.saksonik.ConsoleMaze.persistence.MazeMetrics;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties.GenerationAlgorithm;
+import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MazeCatalogTest {
+    private static final GenerationAlgorithm[] ALGORITHMS = {
+            GenerationAlgorithm.Kruskal,
+            GenerationAlgorithm.DFS,
+            GenerationAlgorithm.BinaryTree
+    };
+
+    @TempDir
+    Path directory;
+
+    private static Maze maze(int i) {
+        int size = 21 + 10 * (i % 3);
+        return ALGORITHMS[i % ALGORITHMS.length].generate(size, size + 2 * (i % 2), i);
+    }
+
+    private static void fill(MazeCatalog catalog, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            Maze maze = maze(i);
+            if (i % 4 == 0) {
+                catalog.add(
+                        maze,
+                        ALGORITHMS[i % ALGORITHMS.length].name(),
+                        new BFSSolver().solve(maze, maze.getEntrance(), maze.getExit())
+                );
+            } else {
+                catalog.add(maze, ALGORITHMS[i % ALGORITHMS.length].name());
+            }
+        }
+    }
+
+    private static List<Long> scan(MazeCatalog catalog, LongPredicate condition) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; id < catalog.size(); id++) {
+            if (condition.test(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static Cell wall(int row, int column) {
+        return new Cell(row, column, Cell.Type.WALL);
+    }
+
+    private static Cell passage(int row, int column) {
+        return new Cell(row, column, Cell.Type.PASSAGE);
+    }
+
+    @Test
+    @DisplayName("Подсчёт длины решения и тупиков")
+    void measure() {
+        Maze maze = new Maze(new Cell[][]{
+                {wall(0, 0), passage(0, 1), wall(0, 2), wall(0, 3), wall(0, 4)},
+                {wall(1, 0), passage(1, 1), wall(1, 2), passage(1, 3), wall(1, 4)},
+                {wall(2, 0), passage(2, 1), wall(2, 2), passage(2, 3), wall(2, 4)},
+                {wall(3, 0), passage(3, 1), passage(3, 2), passage(3, 3), wall(3, 4)},
+                {wall(4, 0), wall(4, 1), wall(4, 2), passage(4, 3), wall(4, 4)}
+        });
+
+        assertEquals(new MazeMetrics(7, 1), MazeMetrics.measure(maze));
+
+        Maze generated = GenerationAlgorithm.Prim.generate(41, 61, 3);
+        assertEquals(
+                new BFSSolver().solve(generated, generated.getEntrance(), generated.getExit()).size(),
+                MazeMetrics.measure(generated).solutionLength()
+        );
+    }
+
+    @Test
+    @DisplayName("Запросы по индексам совпадают с полным перебором")
+    void queries() throws IOException {
+        try (MazeCatalog catalog = MazeCatalog.open(directory)) {
+            fill(catalog, 36);
+            long median = catalog.getMetrics(7).solutionLength();
+
+            assertEquals(
+                    List.of(3L, 9L, 15L, 21L, 27L, 33L),
+                    catalog.query().algorithm("Kruskal").height(21).width(23).ids()
+            );
+            assertEquals(
+                    scan(catalog, id -> id % 3 == 1 && maze((int) id).getHeight() == 31
+                            && maze((int) id).getWidth() == 31),
+                    catalog.query().algorithm("DFS").height(31).width(31).ids()
+            );
+            assertEquals(
+                    scan(catalog, id -> id % 3 == 1 && catalog.getMetrics(id).solutionLength() > median),
+                    catalog.query().algorithm("DFS").solutionLengthBetween(median + 1, Long.MAX_VALUE).ids()
+            );
+            assertEquals(
+                    scan(catalog, id -> catalog.getMetrics(id).deadEnds() <= 20
+                            && catalog.getMetrics(id).solutionLength() >= median),
+                    catalog.query().deadEndsBetween(0, 20).solutionLengthBetween(median, Long.MAX_VALUE).ids()
+            );
+            assertEquals(List.of(5L), catalog.query().seed(5).ids());
+            assertEquals(3, catalog.query().widthBetween(40, 50).limit(3).count());
+            assertEquals(List.of(), catalog.query().algorithm("Wilson").ids());
+            assertEquals(36, catalog.query().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Индексы восстанавливаются при повторном открытии и дополняются")
+    void reopen() throws IOException {
+        List<Long> expected;
+        try (MazeCatalog catalog = MazeCatalog.open(directory)) {
+            fill(catalog, 12);
+            expected = catalog.query().algorithm("BinaryTree").solutionLengthBetween(0, 150).ids();
+            assertEquals(List.of(2L, 5L, 8L, 11L), catalog.query().algorithm("BinaryTree").ids());
+        }
+
+        // Metrics for the last two mazes were lost, the entry for maze 5 is garbage, and one more maze was
+        // appended past the catalog.
+        try (RandomAccessFile raf = new RandomAccessFile(
+                directory.resolve(MazeCatalog.METRICS_FILE_NAME).toFile(), "rw"
+        )) {
+            raf.setLength(raf.length() - 2 * 24);
+            raf.seek(5 * 24);
+            raf.writeLong(1_000_000);
+        }
+        try (MazeCatalog catalog = MazeCatalog.open(directory)) {
+            assertEquals(12, catalog.size());
+            assertEquals(expected, catalog.query().algorithm("BinaryTree").solutionLengthBetween(0, 150).ids());
+            assertEquals(MazeMetrics.measure(maze(5)), catalog.getMetrics(5));
+
+            catalog.getStore().append(maze(12), "Kruskal");
+            assertEquals(List.of(12L), catalog.query().seed(12).ids());
+            assertEquals(MazeMetrics.measure(maze(12)), catalog.getMetrics(12));
+        }
+    }
+
+    @Test
+    @DisplayName("Память индексов растёт линейно при уникальных сидах")
+    void indexSizeWithDistinctSeeds() throws IOException {
+        int count = 3000;
+
+        try (MazeCatalog catalog = MazeCatalog.open(directory)) {
+            for (int i = 0; i < count; i++) {
+                catalog.add(GenerationAlgorithm.Kruskal.generate(5, 5, i), "Kruskal");
+            }
+
+            assertEquals(List.of(1234L), catalog.query().seed(1234).ids());
+            // A bitset per seed alone would take about count * count / 16 bytes, 560 KB here.
+            assertTrue(catalog.getIndexSize() < 64L * count, () -> catalog.getIndexSize() + " bytes");
+        }
+    }
+}
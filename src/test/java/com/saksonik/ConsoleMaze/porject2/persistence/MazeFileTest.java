@@ -0,0 +1,181 @@
+package com.saksonik.ConsoleMaze.porject2.persistence;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.model.WallGrid;
+import com.saksonik.ConsoleMaze.persistence.MazeFile;
+import com.saksonik.ConsoleMaze.persistence.MazeFormat;
+import com.saksonik.ConsoleMaze.persistence.MazeHeader;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MazeFileTest {
+    @TempDir
+    Path directory;
+
+    private static void flipByte(Path file, long position) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xFF);
+        }
+    }
+
+    // Overwrites a header field and recomputes the header checksum, as a buggy or foreign writer would.
+    private static void rewriteHeader(Path file, int position, ByteBuffer value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(value, position);
+
+            ByteBuffer nameLength = ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(nameLength, 76);
+            ByteBuffer header = ByteBuffer.allocate(78 + Short.toUnsignedInt(nameLength.getShort(0)));
+            channel.read(header, 0);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(header.array());
+            ByteBuffer crc = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0, (int) checksum.getValue());
+            channel.write(crc, header.capacity());
+        }
+    }
+
+    private static ByteBuffer littleEndian(long value) {
+        return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value);
+    }
+
+    @Test
+    @DisplayName("Сохранение лабиринта и загрузка без копирования")
+    void saveAndOpen() throws IOException {
+        Path file = directory.resolve("maze.bin");
+        Maze maze = ApplicationProperties.GenerationAlgorithm.Kruskal.generate(41, 70, 42);
+
+        MazeFile.save(file, maze, ApplicationProperties.GenerationAlgorithm.Kruskal.name());
+
+        try (MazeFile mazeFile = MazeFile.open(file)) {
+            MazeHeader header = mazeFile.getHeader();
+            WallGrid grid = mazeFile.asWallGrid();
+
+            assertEquals(MazeFormat.VERSION, header.version());
+            assertEquals(41, header.height());
+            assertEquals(70, header.width());
+            assertEquals(OptionalLong.of(42), header.seed());
+            assertEquals("Kruskal", header.algorithm());
+            assertEquals(0, header.bodyOffset() % 64);
+            assertTrue(mazeFile.verifyChecksum());
+
+            assertEquals(maze.getEntrance(), grid.getEntrance());
+            assertEquals(maze.getExit(), grid.getExit());
+            for (int i = 0; i < maze.getHeight(); i++) {
+                for (int j = 0; j < maze.getWidth(); j++) {
+                    assertEquals(maze.isWall(i, j), grid.isWall(i, j));
+                }
+            }
+            assertEquals(
+                    new BFSSolver().solve(maze, maze.getEntrance(), maze.getExit()),
+                    new BFSSolver().solve(grid, grid.getEntrance(), grid.getExit())
+            );
+
+            Maze copy = mazeFile.toMaze();
+            assertEquals(maze, copy);
+            assertEquals(OptionalLong.of(42), copy.getSeed());
+        }
+    }
+
+    @Test
+    @DisplayName("Сохранение лабиринта с блочной раскладкой и большого лабиринта")
+    void saveTiledAndLarge() throws IOException {
+        Path tiledFile = directory.resolve("tiled.bin");
+        Maze maze = new EllerGenerator(new Random(5)).generate(53, 131);
+
+        MazeFile.save(tiledFile, maze.withLayout(Maze.Layout.TILED), "Eller");
+        try (MazeFile mazeFile = MazeFile.open(tiledFile)) {
+            assertEquals(maze, mazeFile.toMaze());
+        }
+
+        Path largeFile = directory.resolve("large.bin");
+        LargeMaze large = new EllerGenerator(new Random(5)).generateLarge(53, 131);
+
+        MazeFile.save(largeFile, large, OptionalLong.empty(), "");
+        try (MazeFile mazeFile = MazeFile.open(largeFile)) {
+            LargeMaze loaded = mazeFile.asLargeMaze();
+
+            assertEquals(OptionalLong.empty(), mazeFile.getHeader().seed());
+            assertEquals(maze, mazeFile.toMaze());
+            for (long i = 0; i < large.getHeight(); i++) {
+                for (long j = 0; j < large.getWidth(); j++) {
+                    assertEquals(large.isWall(i, j), loaded.isWall(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Обнаружение повреждённых файлов")
+    void detectCorruption() throws IOException {
+        Path file = directory.resolve("maze.bin");
+        Maze maze = ApplicationProperties.GenerationAlgorithm.DFS.generate(21, 21, 7);
+
+        MazeFile.save(file, maze, "DFS");
+        long bodyOffset;
+        try (MazeFile mazeFile = MazeFile.open(file)) {
+            bodyOffset = mazeFile.getHeader().bodyOffset();
+        }
+
+        flipByte(file, bodyOffset + 10);
+        try (MazeFile mazeFile = MazeFile.open(file)) {
+            assertFalse(mazeFile.verifyChecksum());
+        }
+
+        flipByte(file, 9);
+        assertThrows(IOException.class, () -> MazeFile.open(file));
+        flipByte(file, 9);
+        flipByte(file, 0);
+        assertThrows(IOException.class, () -> MazeFile.open(file));
+    }
+
+    @Test
+    @DisplayName("Отклонение заголовков с верной контрольной суммой, но невозможными полями")
+    void rejectInconsistentHeaders() throws IOException {
+        Maze maze = ApplicationProperties.GenerationAlgorithm.DFS.generate(21, 21, 7);
+        long[][] fields = {
+                {4, 0},                      // version 0
+                {32, 21},                    // entrance row past the last row
+                {48, -1},                    // negative exit row
+                {56, 21},                    // exit column past the last column
+                {16, Long.MAX_VALUE - 10},   // width whose body size overflows
+                {8, Long.MAX_VALUE / 2}      // height whose body size overflows
+        };
+
+        for (long[] field : fields) {
+            Path file = directory.resolve("maze" + field[0] + ".bin");
+            MazeFile.save(file, maze, "DFS");
+            rewriteHeader(file, (int) field[0], field[0] == 4
+                    ? ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN).putShort(0, (short) field[1])
+                    : littleEndian(field[1]));
+
+            IOException e = assertThrows(IOException.class, () -> MazeFile.open(file));
+            assertTrue(e.getMessage().contains(field[0] == 4 ? "version" : "Corrupted"), e.getMessage());
+        }
+    }
+}
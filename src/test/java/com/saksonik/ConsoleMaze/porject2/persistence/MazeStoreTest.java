@@ -0,0 +1,193 @@
+package com.saksonik.ConsoleMaze.porject2.persistence;
+
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.persistence.MazeFile;
+import com.saksonik.ConsoleMaze.persistence.MazeStore;
+import com.saksonik.ConsoleMaze.properties.ApplicationProperties;
+import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MazeStoreTest {
+    @TempDir
+    Path directory;
+
+    private static Maze maze(long seed) {
+        return ApplicationProperties.GenerationAlgorithm.Kruskal.generate(21 + 2 * (int) seed, 31, seed);
+    }
+
+    private static void truncate(Path file, long bytes) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Добавление лабиринтов с решениями и чтение после повторного открытия")
+    void appendAndReopen() throws IOException {
+        List<Cell> solution = new BFSSolver().solve(maze(1), maze(1).getEntrance(), maze(1).getExit());
+
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(0, store.append(maze(0), "Kruskal"));
+            assertEquals(1, store.append(maze(1), "Kruskal", solution));
+            assertEquals(2, store.append(maze(2), "Kruskal"));
+            assertThrows(IOException.class, () -> MazeStore.open(directory));
+        }
+        assertEquals(3 * Long.BYTES, Files.size(directory.resolve(MazeStore.INDEX_FILE_NAME)));
+
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(3, store.size());
+            for (int id = 0; id < 3; id++) {
+                assertEquals(maze(id), store.get(id));
+                assertEquals("Kruskal", store.getHeader(id).algorithm());
+            }
+            assertEquals(Optional.empty(), store.getSolution(0));
+            assertEquals(Optional.of(solution), store.getSolution(1));
+
+            try (MazeFile mazeFile = store.open(2)) {
+                assertTrue(mazeFile.verifyChecksum());
+                assertEquals(maze(2).isWall(5, 6), mazeFile.asWallGrid().isWall(5, 6));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Восстановление после обрыва записи")
+    void recoverAfterCrash() throws IOException {
+        Path segment = directory.resolve(MazeStore.SEGMENT_FILE_NAME);
+        Path index = directory.resolve(MazeStore.INDEX_FILE_NAME);
+
+        try (MazeStore store = MazeStore.open(directory)) {
+            for (int id = 0; id < 4; id++) {
+                store.append(maze(id), "Kruskal");
+            }
+        }
+
+        // The last frame lost its tail, and the index entry for it is half written.
+        truncate(segment, 5);
+        truncate(index, 3);
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(3, store.size());
+            assertEquals(maze(2), store.get(2));
+            assertEquals(3, store.append(maze(9), "Kruskal"));
+        }
+
+        // The frame is complete, but the index entry for it never made it.
+        truncate(index, Long.BYTES);
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(4, store.size());
+            assertEquals(maze(9), store.get(3));
+        }
+        assertEquals(4 * Long.BYTES, Files.size(index));
+
+        // The last frame claims far more solution cells than the segment holds.
+        try (FileChannel indexChannel = FileChannel.open(index, StandardOpenOption.READ);
+             FileChannel segmentChannel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer entry = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            indexChannel.read(entry, 3 * Long.BYTES);
+            ByteBuffer cells = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1L << 40);
+            segmentChannel.write(cells, entry.getLong(0) + 24);
+        }
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(3, store.size());
+            assertEquals(maze(2), store.get(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Неудачное открытие не оставляет хранилище заблокированным")
+    void failedOpenReleasesLock() throws IOException {
+        Path index = directory.resolve(MazeStore.INDEX_FILE_NAME);
+
+        try (MazeStore store = MazeStore.open(directory)) {
+            store.append(maze(0), "Kruskal");
+        }
+        long length = Files.size(index);
+
+        // A sparse index claiming more records than a store can hold fails recovery.
+        try (RandomAccessFile raf = new RandomAccessFile(index.toFile(), "rw")) {
+            raf.setLength(1L << 35);
+        }
+        assertThrows(IOException.class, () -> MazeStore.open(directory));
+
+        try (RandomAccessFile raf = new RandomAccessFile(index.toFile(), "rw")) {
+            raf.setLength(length);
+        }
+        try (MazeStore store = MazeStore.open(directory)) {
+            assertEquals(maze(0), store.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Открытие только для чтения рядом с пишущим хранилищем")
+    void readOnlyBesideWriter() throws IOException {
+        try (MazeStore store = MazeStore.open(directory)) {
+            store.append(maze(0), "Kruskal");
+            store.append(maze(1), "Kruskal");
+
+            try (MazeStore reader = MazeStore.openReadOnly(directory)) {
+                store.append(maze(2), "Kruskal");
+
+                assertEquals(2, reader.size());
+                assertEquals(maze(1), reader.get(1));
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.get(2));
+                assertThrows(IllegalStateException.class, () -> reader.append(maze(3), "Kruskal"));
+            }
+            try (MazeStore reader = MazeStore.openReadOnly(directory)) {
+                assertEquals(3, reader.size());
+                assertEquals(maze(2), reader.get(2));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Параллельное чтение во время записи")
+    void readWhileAppending() throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+
+        try (MazeStore store = MazeStore.open(directory)) {
+            store.append(maze(0), "Kruskal");
+
+            List<Future<?>> reads = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                reads.add(readers.submit(() -> {
+                    for (int round = 0; round < 50; round++) {
+                        int id = round % store.size();
+                        assertEquals(maze(id), store.get(id));
+                    }
+                    return null;
+                }));
+            }
+            for (int id = 1; id < 8; id++) {
+                store.append(maze(id), "Kruskal");
+            }
+            for (Future<?> read : reads) {
+                read.get();
+            }
+        } finally {
+            readers.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.saksonik.ConsoleMaze.porject2.solving;
+
+import com.saksonik.ConsoleMaze.generation.eller.EllerGenerator;
+import com.saksonik.ConsoleMaze.model.Cell;
+import com.saksonik.ConsoleMaze.model.LargeMaze;
+import com.saksonik.ConsoleMaze.model.Maze;
+import com.saksonik.ConsoleMaze.solving.bfs.BFSSolver;
+import com.saksonik.ConsoleMaze.solving.wallFollower.DirectionPath;
+import com.saksonik.ConsoleMaze.solving.wallFollower.WallFollowerSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WallFollowerSolvingTest {
+    @Test
+    @DisplayName("Решение лабиринтов с длинной адресацией правилом правой руки")
+    void wallFollowerSolving() {
+        for (int[] size : new int[][] {{5, 5}, {20, 20}, {4, 5}, {10, 20}, {101, 301}, {300, 64}}) {
+            Maze maze = new EllerGenerator(new Random(size[0])).generate(size[0], size[1]);
+            LargeMaze largeMaze = new EllerGenerator(new Random(size[0])).generateLarge(size[0], size[1]);
+
+            List<Cell> expected = new BFSSolver().solve(maze, maze.getEntrance(), maze.getExit());
+            DirectionPath path = new WallFollowerSolver().solve(largeMaze);
+            assertEquals(expected.size() - 1, path.length());
+
+            long row = largeMaze.getEntranceRow();
+            long column = largeMaze.getEntranceColumn();
+            for (long step = 0; step < path.length(); step++) {
+                row += DirectionPath.rowDelta(path.direction(step));
+                column += DirectionPath.columnDelta(path.direction(step));
+                assertEquals(expected.get((int) step + 1), new Cell((int) row, (int) column, expected.get(0).type()));
+            }
+        }
+    }
+}
@@ -21,6 +21,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -34,6 +44,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -41,12 +61,22 @@ public class ConsoleMazeTest {
     @Test
     @DisplayName("Некорректный ввод")
     void wrongInput() throws Exception {
-        withTextFromSystemIn("-1", "4", "wrong", "3", "@", "2", "3 2", "2-4", "12 32 .", "10 10", "fr", "4", "2", "0")
+        withTextFromSystemIn("-1", "99", "wrong", "3", "@", "2", "3 2", "2-4", "12 32 .", "10 10", "fr", "4", "2", "0")
                 .execute(() -> assertEquals("""
                         === Choose a maze generation algorithm ===
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Incorrect option. Please try again
                         Incorrect option. Please try again
@@ -91,6 +121,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -104,6 +144,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -218,6 +268,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -231,6 +291,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -345,6 +415,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -358,6 +438,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -472,6 +562,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -485,6 +585,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -599,6 +709,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -612,6 +732,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -726,6 +856,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -739,6 +879,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -853,6 +1003,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -866,6 +1026,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -980,6 +1150,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -993,6 +1173,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -1107,6 +1297,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }
@@ -1120,6 +1320,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         === Enter the size of the new maze in the [size] or [height width] format for example: 8 12 ===
                         0. Exit
@@ -1234,6 +1444,16 @@ public class ConsoleMazeTest {
                         1. Kruskal
                         2. DFS
                         3. BFS
+                        4. PermutationKruskal
+                        5. Boruvka
+                        6. Eller
+                        7. BinaryTree
+                        8. Sidewinder
+                        9. TiledDFS
+                        10. RecursiveDivision
+                        11. Wilson
+                        12. Prim
+                        13. HuntAndKill
                         0. Exit
                         Bye!""", tapSystemOutNormalized(new ConsoleMaze(new Scanner(System.in), new Random(5))::run).trim()));
     }